@@ -149,6 +149,22 @@ public interface BeanContext extends BeanContainer, BeanContainerRegistry,
      */
     void addInitializer(BeanContextInitializer initializer);
 
+    /**
+     * Retrieves the {@link StartupRecorder} timing the startup of this context.
+     *
+     * @return the startup recorder, {@link StartupRecorder#NOOP} if profiling is disabled
+     *         or the context has been refreshed.
+     */
+    StartupRecorder getStartupRecorder();
+
+    /**
+     * Sets the {@link StartupRecorder} timing the startup of this context.
+     *
+     * @param startupRecorder the startup recorder used until the next {@link #refresh()} returns,
+     *                        or {@code null} to disable profiling.
+     */
+    void setStartupRecorder(StartupRecorder startupRecorder);
+
     /**
      * Executes all registered {@link BeanContextInitializer}s to initialize the context.
      * <p>
@@ -165,4 +181,12 @@ public interface BeanContext extends BeanContainer, BeanContainerRegistry,
      * <p>
      */
     void cleanup();
+
+    /**
+     * Destroys the singleton beans created by this context, invoking their destroy callbacks in reverse
+     * dependency order, and releases the instances.
+     * <p>
+     * Parent contexts are not affected. Calling this method on a context without created singletons does nothing.
+     */
+    void destroy();
 }
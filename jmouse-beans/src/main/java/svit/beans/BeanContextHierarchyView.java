@@ -0,0 +1,132 @@
+package svit.beans;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A flattened lookup view over a {@link BeanContext} and all of its ancestors.
+ * <p>
+ * The view caches, for the whole hierarchy, which context owns the definition of a bean name and which
+ * bean names match a type. A lookup in a deep hierarchy is therefore a single map read, the same as in a
+ * flat context. Entries are stamped with the version of the view they were computed in; registering a
+ * definition in a context or re-parenting it bumps the version of its view and of every descendant view,
+ * which makes all previously cached entries stale at once.
+ * </p>
+ * <p>
+ * Descendants are tracked for ancestors of type {@link DefaultBeanContext}. Other ancestor implementations
+ * are still consulted, but registrations in them are not propagated to this view.
+ * </p>
+ */
+final class BeanContextHierarchyView {
+
+    private final BeanContext                   context;
+    private final Set<BeanContextHierarchyView> children = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Map<String, Owner>            owners   = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Names>          names    = new ConcurrentHashMap<>();
+    private final AtomicLong                    version  = new AtomicLong();
+
+    BeanContextHierarchyView(BeanContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns the nearest context in the hierarchy that contains a definition with the given name.
+     *
+     * @param name the bean name
+     * @return the owning context, or {@code null} if no context in the hierarchy defines the bean
+     */
+    BeanContext getOwner(String name) {
+        long  current = version.get();
+        Owner owner   = owners.get(name);
+
+        if (owner == null || owner.version != current) {
+            owner = new Owner(current, resolveOwner(name));
+            owners.put(name, owner);
+        }
+
+        return owner.context;
+    }
+
+    /**
+     * Returns the names of all beans in the hierarchy matching the given type, nearest context first.
+     * A name defined in several contexts is listed once.
+     *
+     * @param type the bean type
+     * @return an immutable list of bean names
+     */
+    List<String> getBeanNames(Class<?> type) {
+        long  current = version.get();
+        Names entry   = names.get(type);
+
+        if (entry == null || entry.version != current) {
+            entry = new Names(current, resolveBeanNames(type));
+            names.put(type, entry);
+        }
+
+        return entry.names;
+    }
+
+    /**
+     * Links this view to the view of the new parent context, so that registrations in the parent
+     * invalidate this view, and invalidates the cached entries.
+     *
+     * @param previous the previous parent, or {@code null}
+     * @param parent   the new parent, or {@code null}
+     */
+    void attach(BeanContext previous, BeanContext parent) {
+        if (previous instanceof DefaultBeanContext defaultContext) {
+            defaultContext.getHierarchyView().children.remove(this);
+        }
+
+        if (parent instanceof DefaultBeanContext defaultContext) {
+            defaultContext.getHierarchyView().children.add(this);
+        }
+
+        invalidate();
+    }
+
+    /**
+     * Discards all cached entries of this view and of every descendant view.
+     */
+    void invalidate() {
+        version.incrementAndGet();
+
+        List<BeanContextHierarchyView> descendants;
+
+        synchronized (children) {
+            descendants = new ArrayList<>(children);
+        }
+
+        descendants.forEach(BeanContextHierarchyView::invalidate);
+    }
+
+    private BeanContext resolveOwner(String name) {
+        for (BeanContext current = context; current != null; current = current.getParentContext()) {
+            if (current.containsDefinition(name)) {
+                return current;
+            }
+        }
+
+        return null;
+    }
+
+    private List<String> resolveBeanNames(Class<?> type) {
+        Set<String> resolved = new LinkedHashSet<>(context.getDefinitionNames(type));
+        BeanContext parent   = context.getParentContext();
+
+        if (parent != null) {
+            resolved.addAll(parent.getBeanNames(type));
+        }
+
+        return List.copyOf(resolved);
+    }
+
+    private record Owner(long version, BeanContext context) {
+    }
+
+    private record Names(long version, List<String> names) {
+    }
+
+}
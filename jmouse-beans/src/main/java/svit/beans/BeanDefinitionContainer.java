@@ -76,4 +76,24 @@ public interface BeanDefinitionContainer {
 
         return definitions;
     }
+
+    /**
+     * Retrieves the names of all {@link BeanDefinition}s whose bean class is assignable to the specified type.
+     * <p>
+     * The default implementation scans every registered definition. Implementations that maintain
+     * a type index should override this method to answer from the index directly.
+     * </p>
+     *
+     * @param type the type that matching bean classes must be assignable to.
+     * @return a collection of bean names whose bean class is the given type or one of its subtypes.
+     */
+    default Collection<String> getDefinitionNames(Class<?> type) {
+        List<String> names = new ArrayList<>();
+
+        for (BeanDefinition definition : getDefinitions(BeanDefinitionMatchers.isSupertype(type))) {
+            names.add(definition.getBeanName());
+        }
+
+        return names;
+    }
 }
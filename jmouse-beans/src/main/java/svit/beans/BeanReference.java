@@ -0,0 +1,205 @@
+package svit.beans;
+
+import svit.beans.definition.BeanDefinition;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.jmouse.core.reflection.Reflections.getShortName;
+
+/**
+ * A lazily resolved handle to a bean, injected in place of the bean itself.
+ * <p>
+ * Nothing is looked up when the reference is created. The first call to {@link #get()} resolves the bean
+ * through the {@link BeanContext}, by name if a qualifier is given and by type otherwise, and remembers
+ * the resolved bean name. Singleton targets are cached after the first resolution, so later calls are a
+ * single field read. Targets of any other scope, such as prototype, request or session beans, are looked
+ * up by name on every call and always return the instance of the current scope.
+ * </p>
+ * <p>
+ * A reference is what fields of type {@link Supplier} or {@link ObjectFactory} annotated with
+ * {@link svit.beans.annotation.Dependency} receive. Fields of an interface type declared with
+ * {@code @Dependency(lazy = true)} receive a {@link #createProxy(Class) proxy} backed by a reference instead.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * public class ReportService {
+ *
+ *     @Dependency
+ *     private Supplier<PdfRenderer> renderer; // created on first report, not at startup
+ *
+ *     public byte[] render(Report report) {
+ *         return renderer.get().render(report);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the referenced bean
+ */
+public final class BeanReference<T> implements Supplier<T>, ObjectFactory<T> {
+
+    private final BeanContext context;
+    private final Class<T>    type;
+    private final String      qualifier;
+    private volatile String   name;
+    private volatile T        cached;
+
+    /**
+     * Creates a reference resolved through the given context.
+     *
+     * @param context   the context used for resolution
+     * @param type      the type of the bean
+     * @param qualifier the bean name, or an empty string to resolve by type
+     */
+    public BeanReference(BeanContext context, Class<T> type, String qualifier) {
+        this.context = context;
+        this.type = type;
+        this.qualifier = qualifier == null ? "" : qualifier;
+    }
+
+    /**
+     * Resolves the referenced bean, creating it on first access if necessary.
+     *
+     * @return the bean instance
+     * @throws BeanContextException if no unique bean matches the reference
+     */
+    @Override
+    public T get() {
+        T bean = cached;
+
+        if (bean != null) {
+            return bean;
+        }
+
+        String beanName = name;
+
+        if (beanName == null) {
+            bean = context.getBean(type, qualifier);
+            beanName = resolveName(bean);
+
+            if (beanName == null) {
+                // no unique definition to inspect, keep delegating to the context
+                return bean;
+            }
+
+            name = beanName;
+        } else {
+            bean = context.getBean(beanName);
+        }
+
+        if (isSingleton(beanName)) {
+            cached = bean;
+        }
+
+        return bean;
+    }
+
+    /**
+     * Same as {@link #get()}.
+     *
+     * @return the bean instance
+     */
+    @Override
+    public T createObject() {
+        return get();
+    }
+
+    /**
+     * Returns the type of the referenced bean.
+     *
+     * @return the bean type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Checks whether the referenced bean has already been resolved and cached.
+     *
+     * @return {@code true} if {@link #get()} no longer consults the context
+     */
+    public boolean isResolved() {
+        return cached != null;
+    }
+
+    /**
+     * Creates a proxy implementing the given interface that resolves the bean on its first method call.
+     *
+     * @param iface the interface type of the bean
+     * @param <I>   the interface type
+     * @return a lazily resolving proxy
+     * @throws BeanContextException if the type is not an interface
+     */
+    @SuppressWarnings("unchecked")
+    public <I> I createProxy(Class<I> iface) {
+        if (!iface.isInterface()) {
+            throw new BeanContextException(
+                    "Lazy dependency of type '%s' must be an interface, use Supplier<%s> for classes"
+                            .formatted(iface.getName(), getShortName(iface)));
+        }
+
+        return (I) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[]{iface}, new LazyHandler(this));
+    }
+
+    private String resolveName(T bean) {
+        if (!qualifier.isBlank()) {
+            return qualifier;
+        }
+
+        List<String> names = context.getBeanNames(type);
+
+        return names.size() == 1 ? names.getFirst() : null;
+    }
+
+    private boolean isSingleton(String beanName) {
+        for (BeanContext current = context; current != null; current = current.getParentContext()) {
+            if (current.containsDefinition(beanName)) {
+                BeanDefinition definition = current.getDefinition(beanName);
+                return definition.isSingleton();
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        String target = qualifier.isBlank() ? getShortName(type) : "'%s'".formatted(qualifier);
+        return "BeanReference[%s%s]".formatted(target, isResolved() ? ", resolved" : "");
+    }
+
+    /**
+     * Delegates every call except identity methods to the referenced bean.
+     */
+    private record LazyHandler(BeanReference<?> reference) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "Lazy" + reference;
+                    default:
+                        break;
+                }
+            }
+
+            try {
+                return method.invoke(reference.get(), arguments);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+
+    }
+
+}
@@ -2,17 +2,16 @@ package svit.beans;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import svit.beans.annotation.BeanInitializer;
 import svit.beans.definition.*;
 import svit.beans.naming.BeanNameResolver;
 import svit.beans.processor.BeanPostProcessor;
+import svit.beans.processor.BeanPostProcessorChain;
 import org.jmouse.core.reflection.ClassMatchers;
-import org.jmouse.core.reflection.Reflections;
 import org.jmouse.util.Arrays;
 import org.jmouse.util.Sorter;
 
-import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -114,6 +113,11 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      */
     private final List<BeanPostProcessor> processors = new ArrayList<>();
 
+    /**
+     * Effective post-processor chains, computed once per definition and discarded when a processor is added.
+     */
+    private final Map<BeanDefinition, BeanPostProcessorChain> chains = new ConcurrentHashMap<>();
+
     /**
      * The parent {@link BeanContext}, if any, for hierarchical context resolution.
      */
@@ -139,6 +143,29 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      */
     private String contextId;
 
+    /**
+     * Optional eager creation of singleton beans executed at the end of {@link #refresh()}.
+     * When {@code null}, singletons are created lazily on first access.
+     */
+    private SingletonPreInstantiator preInstantiator;
+
+    /**
+     * Destroys the created singletons in reverse dependency order on {@link #destroy()}.
+     */
+    private SingletonDestroyer destroyer = new SingletonDestroyer();
+
+    /**
+     * Records the startup timeline, {@link StartupRecorder#NOOP} unless profiling is enabled.
+     * Reset to {@link StartupRecorder#NOOP} when {@link #refresh()} returns, so beans created later are not recorded.
+     */
+    private StartupRecorder startupRecorder = StartupRecorder.NOOP;
+
+    /**
+     * Cached name and type lookups across this context and its ancestors, created on first use
+     * so that the constructor does not hand out {@code this}.
+     */
+    private volatile BeanContextHierarchyView hierarchyView;
+
     /**
      * Constructs a new {@code DefaultBeanContext} with the specified parent context.
      *
@@ -171,9 +198,14 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      * Executes all registered {@link BeanContextInitializer}s to initialize the context.
      * <p>
      * If an initializer has already been executed (tracked via the {@code initialized} set),
-     * it will be skipped to prevent duplicate initialization.
+     * it will be skipped to prevent duplicate initialization. If a {@link SingletonPreInstantiator}
+     * is configured, all singletons not created yet are instantiated eagerly afterwards.
+     * <p>
+     * The configured {@link StartupRecorder} only records this startup: when the method returns, the context
+     * switches back to {@link StartupRecorder#NOOP}.
      */
     @Override
+    @SuppressWarnings("try") // recorder steps are only closed, never referenced
     public void refresh() {
         LOGGER.warn("=========================================");
         LOGGER.warn("========== START INITIALIZING! ==========");
@@ -181,18 +213,32 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
 
         Sorter.sort(initializers);
 
-        for (BeanContextInitializer initializer : initializers) {
-            int                                     hashCode         = Objects.hash(initializer);
-            Class<? extends BeanContextInitializer> initializerClass = initializer.getClass();
+        try (StartupRecorder.Step ignored = startupRecorder.start("refresh", contextId)) {
+            for (BeanContextInitializer initializer : initializers) {
+                int                                     hashCode         = Objects.hash(initializer);
+                Class<? extends BeanContextInitializer> initializerClass = initializer.getClass();
+
+                if (initialized.contains(hashCode)) {
+                    LOGGER.warn("Initializer '{}' is already initialized.", getShortName(initializerClass));
+                    continue;
+                }
+
+                try (StartupRecorder.Step step = startupRecorder.start("initializer", initializerClass)) {
+                    initializer.initialize(this);
+                }
 
-            if (initialized.contains(hashCode)) {
-                LOGGER.warn("Initializer '{}' is already initialized.", getShortName(initializerClass));
-                continue;
+                initialized.add(hashCode);
+                LOGGER.info("Initializer '{}' was successfully executed.", getShortName(initializerClass));
             }
 
-            initializer.initialize(this);
-            initialized.add(hashCode);
-            LOGGER.info("Initializer '{}' was successfully executed.", getShortName(initializerClass));
+            if (preInstantiator != null) {
+                try (StartupRecorder.Step step = startupRecorder.start("pre-instantiate", contextId)) {
+                    preInstantiator.preInstantiate(this);
+                }
+            }
+        } finally {
+            // the startup is over, later bean creations must not grow the timeline
+            startupRecorder = StartupRecorder.NOOP;
         }
 
         LOGGER.warn("==========================================");
@@ -214,6 +260,24 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
         LOGGER.warn("WARNING! Initializer states cleared!");
     }
 
+    /**
+     * Destroys the created singletons using the configured {@link SingletonDestroyer} and removes them
+     * from the singleton container, so that later lookups create fresh instances.
+     * <p>
+     * Beans that did not finish destroying before the deadline of the destroyer are released as well.
+     * </p>
+     */
+    @Override
+    public void destroy() {
+        LOGGER.info("Destroying context '{}'", this);
+
+        destroyer.destroy(this);
+
+        if (getBeanContainer(BeanScope.SINGLETON) instanceof SingletonBeanContainer container) {
+            container.clear();
+        }
+    }
+
     /**
      * Retrieves a bean by its type. Throws an exception if no beans or multiple beans
      * of the specified type exist.
@@ -289,11 +353,13 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
 
             // get bean or try to create new one via lambda
             instance = instanceContainer.getBean(name, objectFactory);
-        }
+        } else {
+            // delegate straight to the ancestor owning the definition, resolved once per hierarchy change
+            BeanContext owner = getHierarchyView().getOwner(name);
 
-        // if bean not found try to search it in parent context
-        if (instance == null && parent != null) {
-            instance = parent.getBean(name);
+            if (owner != null && owner != this) {
+                instance = owner.getBean(name);
+            }
         }
 
         if (instance == null) {
@@ -311,7 +377,8 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      * <ol>
      *   <li>Detects and prevents cyclic dependencies by tracking visited definitions.</li>
      *   <li>Uses the underlying {@link BeanFactory} to create the actual bean instance.</li>
-     *   <li>Runs all registered {@link BeanPostProcessor} instances before and after the bean is initialized.</li>
+     *   <li>Runs the {@link BeanPostProcessor} instances applicable to the definition before and after
+     *       the bean is initialized.</li>
      *   <li>Invokes the method annotated with {@code @Initialization}, if present, on the newly created bean.</li>
      *   <li>If the {@link BeanDefinition} is marked as singleton, the bean is registered in the singleton container.</li>
      * </ol>
@@ -322,6 +389,7 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      * @throws BeanInstantiationException if bean creation fails due to dependencies or initialization errors
      */
     @Override
+    @SuppressWarnings("try") // recorder steps are only closed, never referenced
     public <T> T createBean(BeanDefinition definition) {
 
         if (definition == null) {
@@ -332,12 +400,16 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
                 -> new BeanInstantiationException(
                         "Cyclic dependency detected for bean: %s".formatted(definition.getBeanName()));
 
-        try {
+        try (StartupRecorder.Step ignored = startupRecorder.start("bean", definition.getBeanName())) {
             // Detect cyclic references using the general-purpose Identifier interface
             referenceDetector.detect(definition::getBeanName, exceptionSupplier);
 
             // resolve an instantiate raw bean
-            T instance = beanFactory.createBean(definition);
+            T instance;
+
+            try (StartupRecorder.Step step = startupRecorder.start("instantiate", definition.getBeanClass())) {
+                instance = beanFactory.createBean(definition);
+            }
 
             // Initializes a bean instance by applying pre-initialization and post-initialization
             instance = initializeBean(instance, definition);
@@ -360,22 +432,32 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      * @return the initialized bean instance, potentially wrapped or modified.
      */
     @Override
-    @SuppressWarnings({"unchecked"})
+    @SuppressWarnings({"unchecked", "try"}) // recorder steps are only closed, never referenced
     public <T> T initializeBean(T instance, BeanDefinition definition) {
-        // Perform pre-initialization steps using registered BeanPostProcessors
-        for (BeanPostProcessor processor : processors) {
-            instance = (T) processor.postProcessBeforeInitialize(instance, definition, this);
+        BeanPostProcessorChain chain = chains.computeIfAbsent(
+                definition, key -> BeanPostProcessorChain.of(processors, key));
+
+        // Perform pre-initialization steps using the post-processors applicable to the definition
+        try (StartupRecorder.Step ignored = startupRecorder.start("before-processors", null)) {
+            for (BeanPostProcessor processor : chain.getBefore()) {
+                try (StartupRecorder.Step step = startupRecorder.start("post-processor", processor.getClass())) {
+                    instance = (T) processor.postProcessBeforeInitialize(instance, definition, this);
+                }
+            }
         }
 
-        // Invoke the initializer method if present in the bean class
-        for (Method initializer : Reflections.findAllAnnotatedMethods(
-                definition.getBeanClass(), BeanInitializer.class)) {
-            Reflections.invokeMethod(instance, initializer);
+        // Invoke the initializer methods if present in the bean class, resolved once per class
+        try (StartupRecorder.Step ignored = startupRecorder.start("initializers", null)) {
+            InjectionMetadata.forClass(definition.getBeanClass()).invokeInitializers(instance);
         }
 
-        // Perform post-initialization steps using registered BeanPostProcessors
-        for (BeanPostProcessor processor : processors) {
-            instance = (T) processor.postProcessAfterInitialize(instance, definition, this);
+        // Perform post-initialization steps using the post-processors applicable to the definition
+        try (StartupRecorder.Step ignored = startupRecorder.start("after-processors", null)) {
+            for (BeanPostProcessor processor : chain.getAfter()) {
+                try (StartupRecorder.Step step = startupRecorder.start("post-processor", processor.getClass())) {
+                    instance = (T) processor.postProcessAfterInitialize(instance, definition, this);
+                }
+            }
         }
 
         return instance;
@@ -386,25 +468,16 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
      * Retrieves the names of all beans that match the specified type.
      * <p>
      * This method searches the current context and, if applicable, the parent context.
-     * It uses a matcher to determine if the type of each bean matches the requested type.
+     * Local names are resolved through the type index of the {@link BeanDefinitionContainer}.
+     * The combined result is cached until a definition is registered in this context or an ancestor.
      * </p>
      *
      * @param type the type of beans to search for
-     * @return a list of bean names that match the specified type
+     * @return an unmodifiable list of bean names that match the specified type, nearest context first
      */
     @Override
     public List<String> getBeanNames(Class<?> type) {
-        List<String> names = new ArrayList<>();
-
-        for (BeanDefinition definition : getDefinitions(BeanDefinitionMatchers.isSupertype(type))) {
-            names.add(definition.getBeanName());
-        }
-
-        if (parent != null) {
-            names.addAll(parent.getBeanNames(type));
-        }
-
-        return names;
+        return getHierarchyView().getBeanNames(type);
     }
 
     /**
@@ -422,14 +495,11 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
     public <T> List<T> getBeans(Class<T> type) {
         List<T> beans = new ArrayList<>();
 
+        // names already span the parent contexts, each is resolved in the context owning it
         for (String beanName : getBeanNames(type)) {
             beans.add(getBean(beanName));
         }
 
-        if (parent != null) {
-            beans.addAll(parent.getBeans(type));
-        }
-
         return beans;
     }
 
@@ -666,6 +736,18 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
         return definitionContainer.getDefinitions();
     }
 
+    /**
+     * Retrieves the names of all {@link BeanDefinition}s in this context whose bean class
+     * is assignable to the specified type. Parent contexts are not consulted.
+     *
+     * @param type the type that matching bean classes must be assignable to
+     * @return a collection of matching bean names
+     */
+    @Override
+    public Collection<String> getDefinitionNames(Class<?> type) {
+        return definitionContainer.getDefinitionNames(type);
+    }
+
     /**
      * Registers a new {@link BeanDefinition} in the container.
      * <p>
@@ -678,6 +760,12 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
     @Override
     public void registerDefinition(BeanDefinition definition) {
         definitionContainer.registerDefinition(definition);
+
+        // without a view nothing is cached yet, and no descendant view exists either
+        BeanContextHierarchyView view = hierarchyView;
+        if (view != null) {
+            view.invalidate();
+        }
     }
 
     /**
@@ -720,6 +808,7 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
     public void addBeanPostProcessor(BeanPostProcessor processor) {
         LOGGER.info("Register new post-processor '{}'", getShortName(processor.getClass()));
         this.processors.add(processor);
+        this.chains.clear();
     }
 
     /**
@@ -734,7 +823,14 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
     public void setParentContext(BeanContext parent) {
         if (parent != null) {
             LOGGER.info("Parent context '{}' attached to '{}'", parent, this);
-            this.parent = parent;
+            synchronized (this) {
+                BeanContext previous = this.parent;
+                this.parent = parent;
+                // a view created later attaches itself to the current parent
+                if (hierarchyView != null) {
+                    hierarchyView.attach(previous, parent);
+                }
+            }
         }
     }
 
@@ -857,6 +953,85 @@ public class DefaultBeanContext implements BeanContext, BeanFactory {
         this.contextId = contextId;
     }
 
+    /**
+     * Gets the {@link SingletonPreInstantiator} used to eagerly create singletons on refresh.
+     *
+     * @return the pre-instantiator, or {@code null} if singletons are created lazily
+     */
+    public SingletonPreInstantiator getPreInstantiator() {
+        return preInstantiator;
+    }
+
+    /**
+     * Sets the {@link SingletonPreInstantiator} used to eagerly create singletons on refresh.
+     *
+     * @param preInstantiator the pre-instantiator, or {@code null} to keep lazy creation
+     */
+    public void setPreInstantiator(SingletonPreInstantiator preInstantiator) {
+        this.preInstantiator = preInstantiator;
+    }
+
+    /**
+     * Gets the {@link SingletonDestroyer} used to destroy singletons on {@link #destroy()}.
+     *
+     * @return the destroyer
+     */
+    public SingletonDestroyer getDestroyer() {
+        return destroyer;
+    }
+
+    /**
+     * Sets the {@link SingletonDestroyer} used to destroy singletons on {@link #destroy()},
+     * e.g. to change its parallelism or deadline.
+     *
+     * @param destroyer the destroyer
+     */
+    public void setDestroyer(SingletonDestroyer destroyer) {
+        this.destroyer = Objects.requireNonNull(destroyer, "Destroyer must not be null");
+    }
+
+    /**
+     * Gets the {@link StartupRecorder} timing the startup of this context.
+     *
+     * @return the startup recorder, {@link StartupRecorder#NOOP} if profiling is disabled or the context
+     *         has been refreshed
+     */
+    @Override
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+
+    /**
+     * Sets the {@link StartupRecorder} timing the startup of this context.
+     *
+     * @param startupRecorder the startup recorder used until the next {@link #refresh()} returns,
+     *                        or {@code null} to disable profiling
+     */
+    @Override
+    public void setStartupRecorder(StartupRecorder startupRecorder) {
+        this.startupRecorder = startupRecorder == null ? StartupRecorder.NOOP : startupRecorder;
+    }
+
+    /**
+     * Returns the cached lookup view spanning this context and its ancestors, creating it on first request.
+     */
+    BeanContextHierarchyView getHierarchyView() {
+        BeanContextHierarchyView view = hierarchyView;
+
+        if (view == null) {
+            synchronized (this) {
+                view = hierarchyView;
+                if (view == null) {
+                    view = new BeanContextHierarchyView(this);
+                    view.attach(null, parent);
+                    hierarchyView = view;
+                }
+            }
+        }
+
+        return view;
+    }
+
     private Function<Object, String> getContextName() {
         return "[%s]"::formatted;
     }
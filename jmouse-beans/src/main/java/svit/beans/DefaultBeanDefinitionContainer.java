@@ -4,16 +4,19 @@ import svit.beans.definition.BeanDefinition;
 import svit.beans.definition.BeanDefinitionException;
 import svit.beans.definition.DuplicateBeanDefinitionException;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A simple implementation of the {@link BeanDefinitionContainer} interface.
  * <p>
  * This container manages {@link BeanDefinition} objects and provides thread-safe
  * methods for registering, retrieving, and managing bean definitions.
+ * <p>
+ * Every registered definition is also indexed by each supertype and interface of its bean
+ * class, so lookups by type via {@link #getDefinitionNames(Class)} are served by a single
+ * map access instead of scanning all definitions.
  *
  * <p>Example usage:</p>
  * <pre>{@code
@@ -28,7 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DefaultBeanDefinitionContainer implements BeanDefinitionContainer {
 
-    private final Map<String, BeanDefinition> definitions = new ConcurrentHashMap<>();
+    private final Map<String, BeanDefinition>      definitions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Collection<String>> typeIndex   = new ConcurrentHashMap<>();
 
     /**
      * Registers a {@link BeanDefinition} in the container.
@@ -43,11 +47,17 @@ public class DefaultBeanDefinitionContainer implements BeanDefinitionContainer {
 
         String beanName = definition.getBeanName();
 
-        if (containsDefinition(beanName)) {
+        if (definitions.putIfAbsent(beanName, definition) != null) {
             throw new DuplicateBeanDefinitionException(definition);
         }
 
-        definitions.put(beanName, definition);
+        Class<?> beanClass = definition.getBeanClass();
+
+        if (beanClass != null) {
+            for (Class<?> type : getTypeHierarchy(beanClass)) {
+                typeIndex.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(beanName);
+            }
+        }
     }
 
     /**
@@ -84,6 +94,52 @@ public class DefaultBeanDefinitionContainer implements BeanDefinitionContainer {
         return new ArrayList<>(definitions.values());
     }
 
+    /**
+     * Retrieves the names of all registered definitions whose bean class is assignable to the given type.
+     * <p>
+     * The result is answered from the type index and reflects registration order.
+     * </p>
+     *
+     * @param type the type that matching bean classes must be assignable to
+     * @return an unmodifiable collection of matching bean names, or an empty collection if none match
+     */
+    @Override
+    public Collection<String> getDefinitionNames(Class<?> type) {
+        Collection<String> names = typeIndex.get(type);
+        return names == null ? List.of() : Collections.unmodifiableCollection(names);
+    }
+
+    /**
+     * Collects the given class together with all of its superclasses and all directly
+     * or indirectly implemented interfaces.
+     *
+     * @param beanClass the class whose type hierarchy should be collected
+     * @return an ordered set of every type the class is assignable to
+     */
+    private static Set<Class<?>> getTypeHierarchy(Class<?> beanClass) {
+        Set<Class<?>>   hierarchy = new LinkedHashSet<>();
+        Deque<Class<?>> queue     = new ArrayDeque<>();
+
+        queue.add(beanClass);
+
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+
+            if (hierarchy.add(type)) {
+                if (type.getSuperclass() != null) {
+                    queue.add(type.getSuperclass());
+                }
+
+                queue.addAll(List.of(type.getInterfaces()));
+            }
+        }
+
+        // interfaces have no superclass but are still assignable to Object
+        hierarchy.add(Object.class);
+
+        return hierarchy;
+    }
+
     @Override
     public String toString() {
         return "Definitions: [%d]".formatted(definitions.size());
@@ -95,6 +95,7 @@ public class DefaultBeanFactory implements BeanFactory, BeanInstantiationFactory
                 instance = strategy.create(definition, context);
                 LOGGER.info("Bean instance (scope='{}', name='{}') created via: '{}' strategy",
                             definition.getScope(), definition.getBeanName(), getShortName(strategy.getClass()));
+                break;
             }
         }
 
@@ -0,0 +1,35 @@
+package svit.beans;
+
+/**
+ * Interface to be implemented by beans that release resources when their {@link BeanContext} is destroyed.
+ * <p>
+ * It is the programmatic counterpart of the {@link svit.beans.annotation.BeanDestroyer} annotation. When a bean
+ * uses both, {@link #destroy()} is called first, followed by the annotated methods.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * public class WorkerPool implements DestroyableBean {
+ *
+ *     private final ExecutorService executor = Executors.newFixedThreadPool(4);
+ *
+ *     @Override
+ *     public void destroy() {
+ *         executor.shutdownNow();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see SingletonDestroyer
+ */
+public interface DestroyableBean {
+
+    /**
+     * Releases the resources held by this bean.
+     *
+     * @throws Exception if the bean could not be destroyed; the failure is logged and does not stop
+     *                   the destruction of other beans
+     */
+    void destroy() throws Exception;
+
+}
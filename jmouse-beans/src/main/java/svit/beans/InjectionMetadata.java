@@ -0,0 +1,281 @@
+package svit.beans;
+
+import org.jmouse.core.reflection.FieldFinder;
+import org.jmouse.core.reflection.JavaType;
+import org.jmouse.core.reflection.ReflectionException;
+import org.jmouse.core.reflection.Reflections;
+import svit.beans.annotation.BeanDestroyer;
+import svit.beans.annotation.BeanInitializer;
+import svit.beans.annotation.Dependency;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Injection metadata of a bean class, resolved once per class and cached in a {@link ClassValue}.
+ * <p>
+ * The metadata holds pre-resolved {@link MethodHandle}s for every field annotated with {@link Dependency}
+ * and every method annotated with {@link BeanInitializer} or {@link BeanDestroyer}. Creating further instances of the same class
+ * therefore performs no reflective discovery and no repeated {@code setAccessible} calls.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * InjectionMetadata metadata = InjectionMetadata.forClass(UserService.class);
+ *
+ * for (InjectionMetadata.InjectedField field : metadata.getFields()) {
+ *     field.inject(bean, context.getBean(field.getType(), field.getQualifier()));
+ * }
+ *
+ * metadata.invokeInitializers(bean);
+ * // on shutdown
+ * metadata.invokeDestroyers(bean);
+ * }</pre>
+ */
+public final class InjectionMetadata {
+
+    private static final ClassValue<InjectionMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+            return new InjectionMetadata(type);
+        }
+    };
+
+    private static final MethodType SETTER_TYPE    = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType LIFECYCLE_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final List<InjectedField> fields;
+    private final List<MethodHandle>  initializers;
+    private final List<MethodHandle>  destroyers;
+
+    private InjectionMetadata(Class<?> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<InjectedField>  fields = new ArrayList<>();
+
+        try {
+            for (Field field : FieldFinder.getAnnotatedWith(type, Dependency.class)) {
+                field.setAccessible(true);
+                MethodHandle setter = lookup.unreflectSetter(field);
+
+                // static fields take no receiver, ignore the bean argument
+                if (Modifier.isStatic(field.getModifiers())) {
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+
+                fields.add(new InjectedField(field, setter.asType(SETTER_TYPE)));
+            }
+
+            this.initializers = resolveMethods(lookup, type, BeanInitializer.class);
+            this.destroyers = resolveMethods(lookup, type, BeanDestroyer.class);
+        } catch (IllegalAccessException exception) {
+            throw new ReflectionException(
+                    "Unable to resolve injection metadata for '%s'".formatted(type.getName()), exception);
+        }
+
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Resolves handles for all methods of the type carrying the given lifecycle annotation.
+     */
+    private static List<MethodHandle> resolveMethods(MethodHandles.Lookup lookup, Class<?> type,
+                                                     Class<? extends Annotation> annotation)
+            throws IllegalAccessException {
+        List<MethodHandle> handles = new ArrayList<>();
+
+        for (Method method : Reflections.findAllAnnotatedMethods(type, annotation)) {
+            method.setAccessible(true);
+            MethodHandle handle = lookup.unreflect(method);
+
+            // static lifecycle methods take no receiver, ignore the bean argument
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            handles.add(handle.asType(LIFECYCLE_TYPE));
+        }
+
+        return List.copyOf(handles);
+    }
+
+    /**
+     * Returns the cached injection metadata for the given class, resolving it on first access.
+     *
+     * @param type the bean class
+     * @return the injection metadata of the class
+     */
+    public static InjectionMetadata forClass(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns the fields annotated with {@link Dependency}.
+     *
+     * @return an unmodifiable list of injectable fields
+     */
+    public List<InjectedField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Invokes all methods annotated with {@link BeanInitializer} on the given instance.
+     *
+     * @param instance the bean instance to initialize
+     * @throws ReflectionException if an initializer method throws
+     */
+    public void invokeInitializers(Object instance) {
+        for (MethodHandle initializer : initializers) {
+            try {
+                initializer.invokeExact(instance);
+            } catch (Throwable throwable) {
+                throw new ReflectionException(throwable.getMessage(), throwable);
+            }
+        }
+    }
+
+    /**
+     * Invokes all methods annotated with {@link BeanDestroyer} on the given instance.
+     *
+     * @param instance the bean instance to destroy
+     * @throws ReflectionException if a destroyer method throws
+     */
+    public void invokeDestroyers(Object instance) {
+        for (MethodHandle destroyer : destroyers) {
+            try {
+                destroyer.invokeExact(instance);
+            } catch (Throwable throwable) {
+                throw new ReflectionException(throwable.getMessage(), throwable);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the class declares any method annotated with {@link BeanDestroyer}.
+     *
+     * @return {@code true} if there is at least one destroyer method
+     */
+    public boolean hasDestroyers() {
+        return !destroyers.isEmpty();
+    }
+
+    /**
+     * A field annotated with {@link Dependency} together with its pre-resolved setter.
+     * <p>
+     * Fields of type {@link Supplier} or {@link ObjectFactory} and fields with {@link Dependency#lazy()}
+     * set are lazy: they receive a {@link BeanReference} or a proxy backed by one instead of the bean itself.
+     * </p>
+     */
+    public static final class InjectedField {
+
+        private final Field        field;
+        private final String       qualifier;
+        private final MethodHandle setter;
+        private final Class<?>     type;
+        private final Kind         kind;
+
+        private InjectedField(Field field, MethodHandle setter) {
+            Dependency dependency = field.getAnnotation(Dependency.class);
+
+            this.field = field;
+            this.qualifier = dependency.value();
+            this.setter = setter;
+
+            if (field.getType() == Supplier.class || field.getType() == ObjectFactory.class) {
+                Class<?> target = JavaType.forField(field).getFirst().getRawType();
+                this.type = target == null ? Object.class : target;
+                this.kind = Kind.REFERENCE;
+            } else {
+                this.type = field.getType();
+                this.kind = dependency.lazy() ? Kind.PROXY : Kind.EAGER;
+            }
+
+            if (kind == Kind.PROXY && !type.isInterface()) {
+                throw new ReflectionException(
+                        "Lazy dependency field '%s' must be declared with an interface type, use Supplier<%s> instead"
+                                .formatted(Reflections.getFieldName(field), Reflections.getShortName(type)));
+            }
+        }
+
+        /**
+         * Returns the underlying field.
+         *
+         * @return the field
+         */
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Returns the type used to resolve the dependency: the declared field type, or the type argument
+         * of a {@link Supplier} or {@link ObjectFactory} field.
+         *
+         * @return the dependency type
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the bean name from {@link Dependency#value()}, empty if the dependency is resolved by type.
+         *
+         * @return the qualifier
+         */
+        public String getQualifier() {
+            return qualifier;
+        }
+
+        /**
+         * Checks whether the dependency is resolved on first use rather than at injection time.
+         *
+         * @return {@code true} for {@link Supplier}, {@link ObjectFactory} and {@code lazy} fields
+         */
+        public boolean isLazy() {
+            return kind != Kind.EAGER;
+        }
+
+        /**
+         * Resolves the value to inject from the given context: the bean itself for eager dependencies,
+         * a {@link BeanReference} or a lazily resolving proxy otherwise.
+         *
+         * @param context the context of the bean being injected
+         * @return the value to inject
+         */
+        public Object resolve(BeanContext context) {
+            return switch (kind) {
+                case EAGER -> context.getBean(type, qualifier);
+                case REFERENCE -> new BeanReference<>(context, type, qualifier);
+                case PROXY -> new BeanReference<>(context, type, qualifier).createProxy(type);
+            };
+        }
+
+        /**
+         * Assigns the given value to the field of the bean instance.
+         *
+         * @param instance the bean instance
+         * @param value    the dependency to inject
+         * @throws ReflectionException if the value cannot be assigned
+         */
+        public void inject(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable throwable) {
+                throw new ReflectionException("Unable to inject '%s' into field '%s'"
+                        .formatted(value, Reflections.getFieldName(field)), throwable);
+            }
+        }
+
+        private enum Kind {
+            EAGER, REFERENCE, PROXY
+        }
+
+    }
+
+}
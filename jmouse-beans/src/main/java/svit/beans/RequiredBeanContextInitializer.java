@@ -90,8 +90,7 @@ final class RequiredBeanContextInitializer implements BeanContextInitializer {
         }
 
         if (factory instanceof BeanInstantiationFactory instantiation) {
-            instantiation.addStrategy(new ConstructorBeanInstantiationStrategy());
-            instantiation.addStrategy(new MethodBeanInstantiationStrategy());
+            instantiation.addStrategy(new GeneratedBeanInstantiationStrategy());
             instantiation.addStrategy(new ObjectFactoryBeanInstantiationStrategy());
         }
 
@@ -3,16 +3,16 @@ package svit.beans;
 import org.slf4j.Logger;
 import svit.beans.annotation.Ignore;
 import svit.beans.definition.BeanDefinition;
-import svit.beans.definition.BeanDefinitionFactory;
 import svit.beans.scanner.ConfigurationAnnotatedClassBeanScanner;
 import svit.beans.scanner.ProvideAnnotatedClassesBeanScanner;
 import org.jmouse.util.Arrays;
 import org.jmouse.util.Priority;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Stream;
 
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.jmouse.core.reflection.Reflections.getShortName;
@@ -20,6 +20,12 @@ import static org.jmouse.core.reflection.Reflections.getShortName;
 /**
  * This class is responsible for initializing a {@link BeanContext} by scanning
  * specified base classes for annotated elements using registered {@link BeanScanner}s.
+ * <p>
+ * Scanners run concurrently and bean definitions are created in parallel; results are merged in
+ * scanner registration order and registered on the calling thread, so the outcome, including duplicate
+ * detection, does not depend on thread timing. Use {@link #setParallel(boolean)} to process everything
+ * on the calling thread.
+ * </p>
  *
  * <p>Usage example:</p>
  * <pre>{@code
@@ -36,6 +42,7 @@ public class ScannerBeanContextInitializer implements BeanContextInitializer {
 
     private final Class<?>[]                          baseClasses;
     private final List<BeanScanner<AnnotatedElement>> scanners = new ArrayList<>();
+    private       boolean                             parallel = true;
 
     /**
      * Creates a new instance of {@code ScannerBeanContextInitializer}.
@@ -57,26 +64,45 @@ public class ScannerBeanContextInitializer implements BeanContextInitializer {
      */
     @Override
     public void initialize(BeanContext context) {
-        LOGGER.info("{} scanners ready for run", scanners.size());
+        LOGGER.info("{} scanners ready for {} run", scanners.size(), parallel ? "parallel" : "sequential");
 
-        Class<?>[]            rootClasses       = Arrays.concatenate(baseClasses, context.getBaseClasses());
-        int                   counter           = 0;
-        BeanDefinitionFactory definitionFactory = context.getBeanDefinitionFactory();
+        Class<?>[]                            rootClasses = Arrays.concatenate(baseClasses, context.getBaseClasses());
+        StartupRecorder                       recorder    = context.getStartupRecorder();
+        List<AnnotatedElement>                types       = new ArrayList<>();
+        Map<Class<?>, List<AnnotatedElement>> members     = new LinkedHashMap<>();
 
-        for (BeanScanner<AnnotatedElement> scanner : scanners) {
-            for (AnnotatedElement element : scanner.scan(rootClasses)) {
+        // scanners run concurrently, their results are merged in registration order
+        List<Collection<AnnotatedElement>> results = stream(scanners)
+                .map(scanner -> scan(scanner, rootClasses, recorder)).toList();
+
+        for (Collection<AnnotatedElement> result : results) {
+            for (AnnotatedElement element : result) {
                 if (ignoreElement(element)) {
                     LOGGER.warn("Ignoring candidate '{}'", element);
-                    continue;
+                } else if (element instanceof Member member) {
+                    members.computeIfAbsent(member.getDeclaringClass(), key -> new ArrayList<>()).add(element);
+                } else {
+                    types.add(element);
                 }
-
-                counter++;
-                BeanDefinition beanDefinition = definitionFactory.createDefinition(element, context);
-                context.registerDefinition(beanDefinition);
             }
         }
 
-        LOGGER.info("{} annotated elements were handled", counter);
+        // creating a definition for a type has no side effects, all of them are built in parallel
+        // and registered afterwards in merged order, so duplicates are always reported for the same element
+        List<BeanDefinition> definitions = stream(types)
+                .map(element -> createDefinition(element, context)).toList();
+
+        definitions.forEach(context::registerDefinition);
+
+        // factory methods may register the definition of their declaring class, so the members of one class
+        // are handled by a single task, after all type definitions are visible
+        List<List<BeanDefinition>> groups = stream(members.values())
+                .map(group -> group.stream().map(element -> createDefinition(element, context)).toList()).toList();
+
+        groups.forEach(group -> group.forEach(context::registerDefinition));
+
+        LOGGER.info("{} annotated elements were handled",
+                    definitions.size() + groups.stream().mapToInt(List::size).sum());
     }
 
     /**
@@ -101,6 +127,40 @@ public class ScannerBeanContextInitializer implements BeanContextInitializer {
         return ignore;
     }
 
+    @SuppressWarnings("try") // recorder steps are only closed, never referenced
+    private Collection<AnnotatedElement> scan(
+            BeanScanner<AnnotatedElement> scanner, Class<?>[] rootClasses, StartupRecorder recorder) {
+        try (StartupRecorder.Step step = recorder.start("scanner", scanner.getClass())) {
+            return scanner.scan(rootClasses);
+        }
+    }
+
+    private BeanDefinition createDefinition(AnnotatedElement element, BeanContext context) {
+        return context.getBeanDefinitionFactory().createDefinition(element, context);
+    }
+
+    private <T> Stream<T> stream(Collection<T> collection) {
+        return parallel ? collection.parallelStream() : collection.stream();
+    }
+
+    /**
+     * Enables or disables concurrent scanning and definition creation. Enabled by default.
+     *
+     * @param parallel {@code false} to run everything on the calling thread
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Checks whether scanners and definition creation run concurrently.
+     *
+     * @return {@code true} if parallel processing is enabled
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
     /**
      * Adds a {@link BeanScanner} to this initializer.
      *
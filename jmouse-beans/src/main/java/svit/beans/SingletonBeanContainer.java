@@ -1,15 +1,42 @@
 package svit.beans;
 
+import org.jmouse.core.reflection.Reflections;
+
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * A {@link BeanContainer} holding singleton bean instances.
+ * <p>
+ * Creation through {@link #getBean(String, ObjectFactory)} happens at most once per bean name:
+ * the first caller runs the {@link ObjectFactory}, concurrent callers from other threads wait
+ * for that single in-flight creation and receive the same instance. A re-entrant request for
+ * the same bean on the creating thread is passed straight to the factory so that cyclic
+ * dependencies are reported by the {@link CyclicReferenceDetector} instead of dead-locking.
+ * Once a bean is published, lookups are a single {@link ConcurrentHashMap} read without locking.
+ * </p>
+ */
 public class SingletonBeanContainer implements BeanContainer {
 
+    /**
+     * Creations every thread is currently blocked on, used to detect waits that would never finish.
+     */
+    private static final Map<Thread, Creation> WAITING = new ConcurrentHashMap<>();
+
     /**
      * A mapping of bean names to their instantiated bean instances.
      */
     private final Map<String, Object> instances = new ConcurrentHashMap<>();
 
+    /**
+     * Bean creations currently in progress, mapped by bean name.
+     */
+    private final Map<String, Creation> creations = new ConcurrentHashMap<>();
+
     /**
      * Retrieves a bean instance by its name.
      *
@@ -18,10 +45,68 @@ public class SingletonBeanContainer implements BeanContainer {
      * @return the bean instance.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getBean(String name) {
         return (T) instances.get(name);
     }
 
+    /**
+     * Retrieves a bean by name, or creates it exactly once using the provided {@link ObjectFactory}.
+     *
+     * @param name          the name of the bean.
+     * @param objectFactory the factory used to create the bean if it doesn't exist.
+     * @param <T>           the type of the bean.
+     * @return the bean instance.
+     * @throws BeanContextException if the factory produces a {@code null} object, if the creation
+     *                              failed on another thread or if waiting would dead-lock
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(String name, ObjectFactory<T> objectFactory) {
+        T bean = getBean(name);
+
+        if (bean != null) {
+            return bean;
+        }
+
+        Creation creation = new Creation(Thread.currentThread());
+        Creation existing = creations.putIfAbsent(name, creation);
+
+        if (existing != null) {
+            // recursive request on the creating thread, let the cyclic reference detector decide
+            if (existing.owner == Thread.currentThread()) {
+                return objectFactory.createObject();
+            }
+
+            return (T) await(name, existing);
+        }
+
+        try {
+            // the bean may have been published between the first lookup and claiming the creation
+            bean = getBean(name);
+
+            if (bean == null) {
+                bean = objectFactory.createObject();
+
+                if (bean == null) {
+                    throw new BeanContextException("ObjectFactory must produce a non-null object");
+                }
+
+                LOGGER.info("Register bean '{}' with '{}' container", name, Reflections.getShortName(getClass()));
+                registerBean(name, bean);
+            }
+
+            creation.result.complete(bean);
+
+            return bean;
+        } catch (RuntimeException | Error exception) {
+            creation.result.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            creations.remove(name, creation);
+        }
+    }
+
     /**
      * Registers a bean instance with the given name.
      *
@@ -34,11 +119,9 @@ public class SingletonBeanContainer implements BeanContainer {
             throw new BeanContextException("Failed to register bean. Bean must be non NULL");
         }
 
-        if (containsBean(name)) {
+        if (instances.putIfAbsent(name, bean) != null) {
             throw new BeanContextException("Bean '%s' already present in container".formatted(name));
         }
-
-        instances.put(name, bean);
     }
 
     /**
@@ -52,9 +135,64 @@ public class SingletonBeanContainer implements BeanContainer {
         return instances.containsKey(name);
     }
 
+    /**
+     * Removes all published bean instances, typically after they have been destroyed.
+     * Creations in progress are not affected.
+     */
+    public void clear() {
+        instances.clear();
+    }
+
+    /**
+     * Blocks until the creation running on another thread finishes.
+     * <p>
+     * Before blocking, the chain of threads waiting on each other is followed; if it leads back
+     * to the current thread, the beans depend on each other across threads and waiting would
+     * never return.
+     * </p>
+     */
+    private Object await(String name, Creation creation) {
+        Thread current = Thread.currentThread();
+
+        WAITING.put(current, creation);
+
+        try {
+            Set<Thread> visited = new HashSet<>();
+
+            for (Creation next = creation; next != null && visited.add(next.owner); next = WAITING.get(next.owner)) {
+                if (next.owner == current) {
+                    throw new BeanContextException(
+                            "Cyclic dependency detected for bean '%s' created concurrently on thread '%s'"
+                                    .formatted(name, creation.owner.getName()));
+                }
+            }
+
+            return creation.result.join();
+        } catch (CompletionException exception) {
+            throw new BeanContextException("Creation of bean '%s' failed on thread '%s'"
+                    .formatted(name, creation.owner.getName()), exception.getCause());
+        } finally {
+            WAITING.remove(current);
+        }
+    }
+
     @Override
     public String toString() {
         return "Singletons: " + instances.size();
     }
 
+    /**
+     * A single in-flight bean creation owned by one thread.
+     */
+    private static final class Creation {
+
+        private final Thread                    owner;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Creation(Thread owner) {
+            this.owner = owner;
+        }
+
+    }
+
 }
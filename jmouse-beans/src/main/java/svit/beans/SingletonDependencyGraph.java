@@ -0,0 +1,171 @@
+package svit.beans;
+
+import svit.beans.annotation.Dependency;
+import svit.beans.definition.BeanDefinition;
+import svit.beans.definition.BeanDependency;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A graph of singleton bean names mapped to the names of the local singletons they depend on.
+ * <p>
+ * Edges are derived from the singleton definitions of a {@link BeanContext}:
+ * <ul>
+ *     <li>declared {@link BeanDefinition#getBeanDependencies()} (constructor or factory method parameters),</li>
+ *     <li>the parent definition that provides the factory object of a method-based bean,</li>
+ *     <li>fields annotated with {@link Dependency} that are injected after instantiation, unless lazy.</li>
+ * </ul>
+ * Only singletons accepted by the filter become nodes, dependencies on any other bean are ignored.
+ * The graph is shared by {@link SingletonPreInstantiator}, which creates beans in dependency order, and
+ * {@link SingletonDestroyer}, which destroys them in reverse.
+ * </p>
+ */
+final class SingletonDependencyGraph {
+
+    private final Map<String, Set<String>> dependencies;
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final List<String>             ordered    = new ArrayList<>();
+    private final Set<String>              cyclic;
+
+    private SingletonDependencyGraph(Map<String, Set<String>> dependencies) {
+        this.dependencies = dependencies;
+        this.cyclic = sortTopologically();
+    }
+
+    /**
+     * Builds the graph of the singletons of the given context whose names match the filter.
+     *
+     * @param context the context providing the definitions
+     * @param filter  selects the bean names taking part in the graph
+     * @return the dependency graph
+     */
+    static SingletonDependencyGraph create(BeanContext context, Predicate<String> filter) {
+        Map<String, Set<String>> graph = new LinkedHashMap<>();
+
+        for (BeanDefinition definition : context.getDefinitions()) {
+            String name = definition.getBeanName();
+            if (definition.isSingleton() && filter.test(name)) {
+                graph.put(name, new LinkedHashSet<>());
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : graph.entrySet()) {
+            BeanDefinition definition   = context.getDefinition(entry.getKey());
+            Set<String>    dependencies = entry.getValue();
+
+            for (BeanDependency dependency : definition.getBeanDependencies()) {
+                addDependency(context, graph, dependencies, dependency.type(), dependency.name());
+            }
+
+            if (definition.getParentDefinition() != null) {
+                addDependency(context, graph, dependencies, null, definition.getParentDefinition().getBeanName());
+            }
+
+            if (definition.getBeanClass() != null) {
+                for (InjectionMetadata.InjectedField field : InjectionMetadata.forClass(
+                        definition.getBeanClass()).getFields()) {
+                    if (!field.isLazy()) {
+                        addDependency(context, graph, dependencies, field.getType(), field.getQualifier());
+                    }
+                }
+            }
+
+            dependencies.remove(entry.getKey());
+        }
+
+        return new SingletonDependencyGraph(graph);
+    }
+
+    /**
+     * Resolves a dependency either by name or by type and records it if it refers to a node of the graph.
+     */
+    private static void addDependency(BeanContext context, Map<String, Set<String>> graph, Set<String> dependencies,
+                                      Class<?> type, String name) {
+        Collection<String> candidates = (name == null || name.isBlank())
+                ? context.getDefinitionNames(type) : List.of(name);
+
+        for (String candidate : candidates) {
+            if (graph.containsKey(candidate)) {
+                dependencies.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the graph has no nodes.
+     */
+    boolean isEmpty() {
+        return dependencies.isEmpty();
+    }
+
+    /**
+     * Returns the number of nodes.
+     */
+    int size() {
+        return dependencies.size();
+    }
+
+    /**
+     * Returns the names of the beans the given bean depends on.
+     */
+    Set<String> getDependencies(String name) {
+        return dependencies.getOrDefault(name, Set.of());
+    }
+
+    /**
+     * Returns the names of the beans depending on the given bean.
+     */
+    Set<String> getDependents(String name) {
+        return dependents.getOrDefault(name, Set.of());
+    }
+
+    /**
+     * Returns the acyclic nodes, every bean listed after all of its dependencies.
+     */
+    List<String> getOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Returns the nodes that take part in, or depend on, a cycle and therefore cannot be ordered.
+     * No ordered node depends on any of them.
+     */
+    Set<String> getCyclic() {
+        return cyclic;
+    }
+
+    /**
+     * Orders the graph using Kahn's algorithm. Nodes that cannot be ordered are returned separately.
+     */
+    private Set<String> sortTopologically() {
+        Map<String, Integer> degrees = new HashMap<>();
+        Deque<String>        queue   = new ArrayDeque<>();
+
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            degrees.put(entry.getKey(), entry.getValue().size());
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new LinkedHashSet<>()).add(entry.getKey());
+            }
+            if (entry.getValue().isEmpty()) {
+                queue.add(entry.getKey());
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            ordered.add(name);
+            for (String dependent : dependents.getOrDefault(name, Set.of())) {
+                if (degrees.merge(dependent, -1, Integer::sum) == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        Set<String> cyclic = new LinkedHashSet<>(dependencies.keySet());
+        ordered.forEach(cyclic::remove);
+
+        return cyclic;
+    }
+
+}
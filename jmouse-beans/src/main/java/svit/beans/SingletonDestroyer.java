@@ -0,0 +1,224 @@
+package svit.beans;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import svit.beans.annotation.BeanDestroyer;
+import svit.beans.definition.BeanDefinition;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jmouse.core.reflection.Reflections.getShortName;
+
+/**
+ * Destroys the singleton beans of a {@link BeanContext} in reverse dependency order, tearing down
+ * independent branches concurrently.
+ * <p>
+ * The same dependency graph that drives {@link SingletonPreInstantiator} is built from the singletons
+ * that have actually been created. A bean is destroyed only after every bean depending on it, so its
+ * dependencies are still alive while its destroy callbacks run. Beans without a dependency between them
+ * are destroyed on different worker threads, and shutdown takes roughly as long as the slowest branch
+ * instead of the sum of all beans.
+ * </p>
+ * <p>
+ * A bean is destroyed by calling {@link DestroyableBean#destroy()} if it implements the interface and then
+ * every method annotated with {@link BeanDestroyer}. A failing bean is logged and does not prevent the
+ * destruction of its dependencies. Beans taking part in a dependency cycle are destroyed sequentially before
+ * everything they depend on.
+ * </p>
+ * <p>
+ * The whole run is bounded by a deadline. Beans still pending when it expires are reported, their workers
+ * are interrupted and {@link #destroy(BeanContext)} returns, so that the context shutdown fits into the
+ * grace period granted by the servlet container or an orchestrator.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * DefaultBeanContext context = new DefaultBeanContext(Application.class);
+ * context.setDestroyer(new SingletonDestroyer(4, Duration.ofSeconds(20)));
+ * context.refresh();
+ * // ...
+ * context.destroy();
+ * }</pre>
+ */
+public class SingletonDestroyer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingletonDestroyer.class);
+
+    /**
+     * Deadline used when none is configured explicitly.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int      parallelism;
+    private final Duration timeout;
+
+    /**
+     * Creates a destroyer using one worker per available processor and the {@link #DEFAULT_TIMEOUT}.
+     */
+    public SingletonDestroyer() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a destroyer with the given maximum number of worker threads and overall deadline.
+     *
+     * @param parallelism the maximum number of beans destroyed at the same time
+     * @param timeout     the maximum time a single {@link #destroy(BeanContext)} run may take
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1 or the timeout is not positive
+     */
+    public SingletonDestroyer(int parallelism, Duration timeout) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive but was: %d".formatted(parallelism));
+        }
+
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive but was: %s".formatted(timeout));
+        }
+
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the overall deadline of a single run.
+     *
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Destroys every singleton of the given context that has been created.
+     *
+     * @param context the context whose singletons should be destroyed
+     * @return the names of the beans that were not destroyed before the deadline, empty if all finished
+     */
+    public Set<String> destroy(BeanContext context) {
+        BeanContainer            container = context.getBeanContainer(BeanScope.SINGLETON);
+        SingletonDependencyGraph graph     = SingletonDependencyGraph.create(context, container::containsBean);
+
+        if (graph.isEmpty()) {
+            return Set.of();
+        }
+
+        long            started  = System.nanoTime();
+        String          globals  = Globals.get();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, graph.size()), new WorkerThreadFactory(context));
+
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        Set<String>                          pending = ConcurrentHashMap.newKeySet();
+
+        pending.addAll(graph.getCyclic());
+        pending.addAll(graph.getOrdered());
+
+        try {
+            // nothing ordered depends on a cyclic bean, so the cyclic ones go first, one after another
+            List<String> cyclic = new ArrayList<>(graph.getCyclic());
+            Collections.reverse(cyclic);
+
+            CompletableFuture<Void> cyclicPhase = CompletableFuture.runAsync(() -> {
+                for (String name : cyclic) {
+                    destroyBean(context, container, name, pending, globals);
+                }
+            }, executor);
+
+            cyclic.forEach(name -> futures.put(name, cyclicPhase));
+
+            List<String> ordered = new ArrayList<>(graph.getOrdered());
+            Collections.reverse(ordered);
+
+            // walking backwards, every dependent already has its future
+            for (String name : ordered) {
+                CompletableFuture<?>[] dependents = graph.getDependents(name).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+
+                futures.put(name, CompletableFuture.allOf(dependents)
+                        .thenRunAsync(() -> destroyBean(context, container, name, pending, globals), executor));
+            }
+
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            LOGGER.error("Destroying singletons of context '{}' exceeded {} ms, beans {} were not destroyed",
+                         context, timeout.toMillis(), pending);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while destroying singletons of context '{}', beans {} were not destroyed",
+                         context, pending);
+        } catch (ExecutionException exception) {
+            // destroyBean never fails, anything else is a bug worth seeing
+            LOGGER.error("Destroying singletons of context '{}' failed", context, exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOGGER.info("Destroyed singletons of context '{}' in {} ms using {} worker(s)",
+                    context, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), parallelism);
+
+        return Set.copyOf(pending);
+    }
+
+    /**
+     * Destroys a single bean on a worker thread, propagating the caller's {@link Globals} state
+     * so that container registries resolve the same scope as on the calling thread.
+     */
+    private void destroyBean(BeanContext context, BeanContainer container, String name, Set<String> pending,
+                             String globals) {
+        Globals.set(globals);
+
+        try {
+            destroyBean(context.getDefinition(name), container.getBean(name));
+        } catch (Exception exception) {
+            LOGGER.error("Failed to destroy bean '{}'", name, exception);
+        } finally {
+            pending.remove(name);
+            Globals.set(Globals.DEFAULT_STATE);
+        }
+    }
+
+    /**
+     * Invokes the destroy callbacks of a bean.
+     */
+    private void destroyBean(BeanDefinition definition, Object bean) throws Exception {
+        if (bean == null) {
+            return;
+        }
+
+        if (bean instanceof DestroyableBean destroyable) {
+            destroyable.destroy();
+        }
+
+        // callbacks are declared on the bean class, the published instance may be a proxy of it
+        Class<?> beanClass = definition.getBeanClass() != null ? definition.getBeanClass() : bean.getClass();
+
+        if (beanClass.isInstance(bean)) {
+            InjectionMetadata.forClass(beanClass).invokeDestroyers(bean);
+        }
+    }
+
+    /**
+     * Names worker threads after the context for readable thread dumps during shutdown.
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String        prefix;
+
+        private WorkerThreadFactory(BeanContext context) {
+            this.prefix = "destroy-%s-".formatted(getShortName(context.getClass()));
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+}
@@ -0,0 +1,245 @@
+package svit.beans;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import svit.beans.annotation.Dependency;
+import svit.beans.definition.BeanDefinition;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jmouse.core.reflection.Reflections.getShortName;
+
+/**
+ * Eagerly instantiates all singleton beans of a {@link BeanContext}, creating independent beans concurrently.
+ * <p>
+ * Before anything is created, a dependency graph is built from the singleton definitions of the context:
+ * <ul>
+ *     <li>declared {@link BeanDefinition#getBeanDependencies()} (constructor or factory method parameters),</li>
+ *     <li>the parent definition that provides the factory object of a method-based bean,</li>
+ *     <li>fields annotated with {@link Dependency} that will be injected after instantiation.</li>
+ * </ul>
+ * A bean is submitted to the bounded executor only after all of its local dependencies have been created,
+ * so a worker never has to wait for a bean under construction on another thread.
+ * </p>
+ * <p>
+ * Cycle detection is preserved: beans that form a dependency cycle are never split across threads.
+ * They are resolved sequentially on the calling thread after the parallel phase, where the thread-bound
+ * {@link CyclicReferenceDetector} reports the cycle exactly as it does for lazy creation.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * DefaultBeanContext context = new DefaultBeanContext(Application.class);
+ * context.setPreInstantiator(new SingletonPreInstantiator(4));
+ * context.refresh();
+ *
+ * for (SingletonPreInstantiator.Trace trace : context.getPreInstantiator().getTraces()) {
+ *     System.out.println(trace);
+ * }
+ * }</pre>
+ */
+public class SingletonPreInstantiator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingletonPreInstantiator.class);
+
+    /**
+     * Number of the slowest beans reported in the log after each run.
+     */
+    private static final int REPORTED_TRACES = 10;
+
+    private final int         parallelism;
+    private final List<Trace> traces = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a pre-instantiator using one worker per available processor.
+     */
+    public SingletonPreInstantiator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a pre-instantiator with the given maximum number of worker threads.
+     *
+     * @param parallelism the maximum number of beans created at the same time
+     * @throws IllegalArgumentException if {@code parallelism} is less than 1
+     */
+    public SingletonPreInstantiator(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive but was: %d".formatted(parallelism));
+        }
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Instantiates every singleton of the given context that is not yet present in its container.
+     *
+     * @param context the context whose singletons should be created
+     * @throws BeanInstantiationException if one or more beans could not be created
+     */
+    public void preInstantiate(BeanContext context) {
+        SingletonDependencyGraph graph = SingletonDependencyGraph.create(context, name -> !context.containsBean(name));
+
+        traces.clear();
+
+        if (graph.isEmpty()) {
+            return;
+        }
+
+        Set<String> cyclic = graph.getCyclic();
+
+        if (!cyclic.isEmpty()) {
+            LOGGER.warn("Beans {} take part in or depend on a dependency cycle and will be created sequentially",
+                        cyclic);
+        }
+
+        long            started  = System.nanoTime();
+        String          globals  = Globals.get();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, graph.size()), new WorkerThreadFactory(context));
+
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+
+        try {
+            for (String name : graph.getOrdered()) {
+                CompletableFuture<?>[] dependencies = graph.getDependencies(name).stream()
+                        .map(futures::get).toArray(CompletableFuture[]::new);
+
+                futures.put(name, CompletableFuture.allOf(dependencies)
+                        .thenApply(ignored -> System.nanoTime())
+                        .thenAcceptAsync(readyAt -> createBean(context, name, readyAt, globals), executor));
+            }
+
+            awaitCompletion(futures);
+        } finally {
+            executor.shutdown();
+        }
+
+        // cyclic beans stay on the calling thread so the detector sees the whole cycle
+        for (String name : cyclic) {
+            createBean(context, name, System.nanoTime());
+        }
+
+        report(context, System.nanoTime() - started);
+    }
+
+    /**
+     * Returns the creation traces recorded by the last {@link #preInstantiate(BeanContext)} run,
+     * ordered from the slowest to the fastest bean.
+     *
+     * @return an immutable list of traces
+     */
+    public List<Trace> getTraces() {
+        List<Trace> sorted = new ArrayList<>(traces);
+        sorted.sort(Comparator.comparingLong(Trace::creationNanos).reversed());
+        return List.copyOf(sorted);
+    }
+
+    /**
+     * Waits for all creation tasks and rethrows failures as a single {@link BeanInstantiationException}.
+     */
+    private void awaitCompletion(Map<String, CompletableFuture<Void>> futures) {
+        BeanInstantiationException failure = null;
+
+        for (Map.Entry<String, CompletableFuture<Void>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().join();
+            } catch (CompletionException | CancellationException exception) {
+                Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+
+                // dependents of a failed bean fail with the very same cause, report it once
+                if (failure == null) {
+                    failure = new BeanInstantiationException(
+                            "Failed to pre-instantiate singleton bean '%s'".formatted(entry.getKey()), cause);
+                } else if (failure.getCause() != cause && !List.of(failure.getSuppressed()).contains(cause)) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates a single bean on a worker thread, propagating the caller's {@link Globals} state
+     * so that container registries resolve the same scope as on the calling thread.
+     */
+    private void createBean(BeanContext context, String name, long readyAt, String globals) {
+        Globals.set(globals);
+
+        try {
+            createBean(context, name, readyAt);
+        } finally {
+            Globals.set(Globals.DEFAULT_STATE);
+        }
+    }
+
+    /**
+     * Creates a single bean through the context and records its trace.
+     */
+    private void createBean(BeanContext context, String name, long readyAt) {
+        long started = System.nanoTime();
+
+        context.getBean(name);
+
+        traces.add(new Trace(name, Thread.currentThread().getName(),
+                             started - readyAt, System.nanoTime() - started));
+    }
+
+    /**
+     * Logs the total duration and the slowest beans of the last run.
+     */
+    private void report(BeanContext context, long elapsedNanos) {
+        List<Trace> slowest = getTraces();
+
+        LOGGER.info("Pre-instantiated {} singleton(s) of context '{}' in {} ms using {} worker(s)",
+                    slowest.size(), context, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), parallelism);
+
+        for (Trace trace : slowest.subList(0, Math.min(REPORTED_TRACES, slowest.size()))) {
+            LOGGER.info("  {}", trace);
+        }
+    }
+
+    /**
+     * Timing information collected for a single pre-instantiated bean.
+     *
+     * @param beanName      the name of the bean
+     * @param threadName    the name of the thread that created the bean
+     * @param waitNanos     the time between all dependencies being ready and the creation starting
+     * @param creationNanos the time spent creating and initializing the bean itself
+     */
+    public record Trace(String beanName, String threadName, long waitNanos, long creationNanos) {
+
+        @Override
+        public String toString() {
+            return "'%s' created on '%s' in %.3f ms (queued %.3f ms)".formatted(
+                    beanName, threadName, creationNanos / 1_000_000d, waitNanos / 1_000_000d);
+        }
+
+    }
+
+    /**
+     * Names worker threads after the context for readable traces and thread dumps.
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String        prefix;
+
+        private WorkerThreadFactory(BeanContext context) {
+            this.prefix = "singleton-%s-".formatted(getShortName(context.getClass()));
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+}
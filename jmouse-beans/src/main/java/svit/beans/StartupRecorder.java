@@ -0,0 +1,76 @@
+package svit.beans;
+
+/**
+ * Records the steps a {@link BeanContext} goes through while starting up.
+ * <p>
+ * Every step is opened with {@link #start(String, Object)} and closed through the returned {@link Step},
+ * typically with a try-with-resources block. Steps opened while another step is open on the same thread
+ * become its children, so the result forms a timeline tree: initializers containing scanners, bean creations
+ * containing the creation of their dependencies, and so on.
+ * </p>
+ * <p>
+ * The default {@link #NOOP} recorder returns a shared no-op step and records nothing, so instrumented code
+ * costs a single interface call per step when profiling is disabled. Details are passed as plain objects
+ * and only turned into text by recording implementations.
+ * </p>
+ * <p>
+ * A context records only its startup: once {@link BeanContext#refresh()} returns it switches back to
+ * {@link #NOOP}, so beans created on demand afterwards do not keep growing the timeline.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * TimelineStartupRecorder recorder = new TimelineStartupRecorder();
+ *
+ * context.setStartupRecorder(recorder);
+ * context.refresh();
+ *
+ * recorder.getSlowest(10).forEach(System.out::println);
+ * }</pre>
+ *
+ * @see TimelineStartupRecorder
+ */
+public interface StartupRecorder {
+
+    /**
+     * A recorder that records nothing.
+     */
+    StartupRecorder NOOP = (name, detail) -> Step.NOOP;
+
+    /**
+     * Opens a new step.
+     *
+     * @param name   the kind of step, e.g. {@code "initializer"} or {@code "instantiate"}
+     * @param detail what the step works on, e.g. a bean name or a processor class; may be {@code null}
+     * @return the open step, to be closed when the work is done
+     */
+    Step start(String name, Object detail);
+
+    /**
+     * Checks whether this recorder actually records steps.
+     *
+     * @return {@code false} for the {@link #NOOP} recorder
+     */
+    default boolean isEnabled() {
+        return this != NOOP;
+    }
+
+    /**
+     * An open step of the startup timeline.
+     */
+    interface Step extends AutoCloseable {
+
+        /**
+         * A step that does nothing when closed.
+         */
+        Step NOOP = () -> { };
+
+        /**
+         * Ends the step.
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,332 @@
+package svit.beans;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.jmouse.core.reflection.Reflections.getShortName;
+
+/**
+ * A {@link StartupRecorder} that keeps every recorded step as a node of a timeline tree.
+ * <p>
+ * Each thread has its own stack of open steps: a step started while another one is open on the same thread
+ * becomes its child, steps opened on a thread with an empty stack become roots. Besides the tree returned by
+ * {@link #getTimeline()}, the recorder provides a flat list of the slowest steps ranked by their
+ * {@linkplain TimelineStep#getSelfNanos() self time}, i.e. the duration minus the time spent in child steps.
+ * </p>
+ * <p>
+ * When created with {@code emitEvents} enabled, every step is also committed as a {@code svit.beans.StartupStep}
+ * JFR event, so the startup can be inspected in a flight recording next to GC, class loading and I/O.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * TimelineStartupRecorder recorder = new TimelineStartupRecorder(true);
+ *
+ * context.setStartupRecorder(recorder);
+ * context.refresh();
+ *
+ * System.out.println(recorder);                          // the whole tree
+ * recorder.getSlowest(10).forEach(System.out::println);  // top 10 by self time
+ * }</pre>
+ */
+public class TimelineStartupRecorder implements StartupRecorder {
+
+    private final List<TimelineStep>               roots  = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Deque<TimelineStep>> stacks = ThreadLocal.withInitial(ArrayDeque::new);
+    private final boolean                          emitEvents;
+    private final long                             origin = System.nanoTime();
+
+    /**
+     * Creates a recorder that does not emit JFR events.
+     */
+    public TimelineStartupRecorder() {
+        this(false);
+    }
+
+    /**
+     * Creates a recorder.
+     *
+     * @param emitEvents whether every step is also committed as a JFR event
+     */
+    public TimelineStartupRecorder(boolean emitEvents) {
+        this.emitEvents = emitEvents;
+    }
+
+    @Override
+    public Step start(String name, Object detail) {
+        Deque<TimelineStep> stack  = stacks.get();
+        TimelineStep        parent = stack.peek();
+        int                 depth  = parent == null ? 0 : parent.depth + 1;
+        TimelineStep        step   = new TimelineStep(this, name, describe(detail), depth);
+
+        if (parent == null) {
+            roots.add(step);
+        } else {
+            parent.children.add(step);
+        }
+
+        stack.push(step);
+
+        if (emitEvents) {
+            step.event = new StartupStepEvent();
+            step.event.begin();
+        }
+
+        step.started = System.nanoTime();
+
+        return step;
+    }
+
+    /**
+     * Returns the root steps in the order they were started.
+     *
+     * @return an immutable list of root steps
+     */
+    public List<TimelineStep> getTimeline() {
+        return List.copyOf(roots);
+    }
+
+    /**
+     * Returns the finished steps with the largest self time, slowest first.
+     *
+     * @param limit the maximum number of steps to return
+     * @return an immutable list of at most {@code limit} steps
+     */
+    public List<TimelineStep> getSlowest(int limit) {
+        List<TimelineStep>  steps = new ArrayList<>();
+        Deque<TimelineStep> queue = new ArrayDeque<>(roots);
+
+        while (!queue.isEmpty()) {
+            TimelineStep step = queue.poll();
+            if (step.isFinished()) {
+                steps.add(step);
+            }
+            queue.addAll(step.children);
+        }
+
+        steps.sort(Comparator.comparingLong(TimelineStep::getSelfNanos).reversed());
+
+        return List.copyOf(steps.subList(0, Math.min(limit, steps.size())));
+    }
+
+    /**
+     * Discards all recorded steps.
+     */
+    public void clear() {
+        roots.clear();
+    }
+
+    private void end(TimelineStep step) {
+        step.duration = System.nanoTime() - step.started;
+
+        Deque<TimelineStep> stack = stacks.get();
+
+        // tolerate steps closed out of order, everything opened after them ends with them
+        while (!stack.isEmpty() && stack.pop() != step) {
+            // discard
+        }
+
+        if (stack.isEmpty()) {
+            stacks.remove();
+        }
+
+        StartupStepEvent event = step.event;
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.name = step.name;
+                event.detail = step.detail;
+                event.commit();
+            }
+            step.event = null;
+        }
+    }
+
+    private static String describe(Object detail) {
+        if (detail instanceof Class<?> type) {
+            return getShortName(type);
+        }
+
+        return detail == null ? null : detail.toString();
+    }
+
+    /**
+     * Prints the timeline tree, one step per line, indented by depth.
+     */
+    @Override
+    public String toString() {
+        StringBuilder       builder = new StringBuilder();
+        Deque<TimelineStep> stack   = new ArrayDeque<>();
+
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(roots.get(i));
+        }
+
+        while (!stack.isEmpty()) {
+            TimelineStep step = stack.pop();
+
+            builder.append("  ".repeat(step.depth)).append(step).append(System.lineSeparator());
+
+            for (int i = step.children.size() - 1; i >= 0; i--) {
+                stack.push(step.children.get(i));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * A single step of the startup timeline.
+     */
+    public static final class TimelineStep implements Step {
+
+        private final    TimelineStartupRecorder recorder;
+        private final    String                  name;
+        private final    String                  detail;
+        private final    String                  threadName;
+        private final    int                     depth;
+        private final    List<TimelineStep>      children = new CopyOnWriteArrayList<>();
+        private          long                    started;
+        private volatile long                    duration = -1;
+        private          StartupStepEvent        event;
+
+        private TimelineStep(TimelineStartupRecorder recorder, String name, String detail, int depth) {
+            this.recorder = recorder;
+            this.name = name;
+            this.detail = detail;
+            this.depth = depth;
+            this.threadName = Thread.currentThread().getName();
+        }
+
+        @Override
+        public void close() {
+            if (duration < 0) {
+                recorder.end(this);
+            }
+        }
+
+        /**
+         * Returns the kind of step, e.g. {@code "bean"} or {@code "instantiate"}.
+         *
+         * @return the step name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns what the step worked on, e.g. a bean name.
+         *
+         * @return the detail, or {@code null}
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * Returns the name of the thread that ran the step.
+         *
+         * @return the thread name
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Returns the time between the creation of the recorder and the start of this step.
+         *
+         * @return the start offset in nanoseconds
+         */
+        public long getStartNanos() {
+            return started - recorder.origin;
+        }
+
+        /**
+         * Returns the total duration of the step, including its children.
+         *
+         * @return the duration in nanoseconds, or {@code -1} if the step is still open
+         */
+        public long getDurationNanos() {
+            return duration;
+        }
+
+        /**
+         * Returns the duration of the step without the time spent in its child steps.
+         *
+         * @return the self time in nanoseconds, or {@code -1} if the step is still open
+         */
+        public long getSelfNanos() {
+            if (duration < 0) {
+                return -1;
+            }
+
+            long self = duration;
+
+            for (TimelineStep child : children) {
+                if (child.isFinished() && child.threadName.equals(threadName)) {
+                    self -= child.duration;
+                }
+            }
+
+            return Math.max(self, 0);
+        }
+
+        /**
+         * Returns the steps started while this step was open on the same thread.
+         *
+         * @return an immutable list of child steps
+         */
+        public List<TimelineStep> getChildren() {
+            return List.copyOf(children);
+        }
+
+        /**
+         * Checks whether the step has been closed.
+         *
+         * @return {@code true} if the step is finished
+         */
+        public boolean isFinished() {
+            return duration >= 0;
+        }
+
+        @Override
+        public String toString() {
+            String subject = detail == null ? name : "%s '%s'".formatted(name, detail);
+
+            if (!isFinished()) {
+                return "%s [%s] running".formatted(subject, threadName);
+            }
+
+            return "%s [%s] %.3f ms (self %.3f ms)".formatted(
+                    subject, threadName, duration / 1_000_000d, getSelfNanos() / 1_000_000d);
+        }
+
+    }
+
+    /**
+     * JFR event committed for every recorded step when event emission is enabled.
+     */
+    @Name("svit.beans.StartupStep")
+    @Label("Bean Context Startup Step")
+    @Description("A step of the bean context startup, such as an initializer, a scanner or a bean creation")
+    @Category({"Svit", "Beans"})
+    @StackTrace(false)
+    static final class StartupStepEvent extends Event {
+
+        @Label("Step")
+        String name;
+
+        @Label("Detail")
+        String detail;
+
+    }
+
+}
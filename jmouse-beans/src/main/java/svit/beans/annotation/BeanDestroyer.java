@@ -0,0 +1,32 @@
+package svit.beans.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates a method that should be called when the owning bean context is destroyed,
+ * typically for releasing resources such as pools, threads or connections.
+ * <p>
+ * Singletons are destroyed in reverse dependency order: a bean is destroyed only after every
+ * bean depending on it, so its dependencies are still usable inside the annotated method.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * public class ConnectionPool {
+ *
+ *     @BeanDestroyer
+ *     public void shutdown() {
+ *         // release connections
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see svit.beans.DestroyableBean
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BeanDestroyer {
+
+}
@@ -7,6 +7,26 @@ import java.lang.annotation.Target;
 
 /**
  * Indicates that a field or method is a dependency that should be injected by the container.
+ * <p>
+ * Dependencies are resolved eagerly, creating the target bean together with the bean declaring it.
+ * Heavy or rarely used dependencies can be resolved on first use instead, either by declaring the field
+ * as {@link java.util.function.Supplier} or {@link svit.beans.ObjectFactory} of the bean type, or by
+ * setting {@link #lazy()} on a field of an interface type.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @Dependency
+ * private UserRepository repository;        // created with the declaring bean
+ *
+ * @Dependency
+ * private Supplier<ReportRenderer> renderer; // created on renderer.get()
+ *
+ * @Dependency(lazy = true)
+ * private MailClient mailClient;            // created on the first method call
+ * }</pre>
+ *
+ * @see svit.beans.BeanReference
  */
 @Target({ElementType.METHOD, ElementType.FIELD})
 @Retention(RetentionPolicy.RUNTIME)
@@ -19,4 +39,14 @@ public @interface Dependency {
      * @return the name of the dependency
      */
     String value() default "";
+
+    /**
+     * Whether the dependency is resolved on first use instead of when the declaring bean is created.
+     * <p>The field type must be an interface, the container injects a proxy resolving the bean on the first
+     * method call. Fields of type {@link java.util.function.Supplier} or {@link svit.beans.ObjectFactory}
+     * are always lazy.</p>
+     *
+     * @return {@code true} to resolve the dependency lazily
+     */
+    boolean lazy() default false;
 }
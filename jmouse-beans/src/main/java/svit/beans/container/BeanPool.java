@@ -0,0 +1,264 @@
+package svit.beans.container;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import svit.beans.BeanContextException;
+import svit.beans.ObjectFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of instances of a single bean.
+ * <p>
+ * At most {@code maxSize} instances are borrowed at the same time. {@link #borrow()} hands out the most
+ * recently returned idle instance, creates a new one through the {@link ObjectFactory} if none is idle,
+ * or waits up to the borrow timeout for another caller to {@link #release(Object) release} one.
+ * Instances that stay idle longer than the idle timeout are evicted on the next pool access
+ * or by an explicit call to {@link #evictIdle()}; evicted instances implementing {@link AutoCloseable}
+ * are closed.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * BeanPool<MessageDigest> pool = new BeanPool<>(
+ *         "digest", () -> MessageDigest.getInstance("SHA-256"), 8, Duration.ofMinutes(5), Duration.ofSeconds(1));
+ *
+ * MessageDigest digest = pool.borrow();
+ * try {
+ *     digest.digest(bytes);
+ * } finally {
+ *     pool.release(digest);
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the pooled instances
+ */
+public class BeanPool<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanPool.class);
+
+    private final String           name;
+    private final ObjectFactory<T> factory;
+    private final int              maxSize;
+    private final long             maxIdleNanos;
+    private final long             borrowTimeoutNanos;
+    private final Semaphore        permits;
+
+    /**
+     * Idle instances, the most recently returned first.
+     */
+    private final ConcurrentLinkedDeque<Idle<T>> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Instances currently handed out, compared by identity.
+     */
+    private final Set<T> borrowed = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final LongAdder created  = new LongAdder();
+    private final LongAdder borrows  = new LongAdder();
+    private final LongAdder evicted  = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * Creates a pool for the given bean.
+     *
+     * @param name          the bean name, used in messages
+     * @param factory       the factory creating new instances
+     * @param maxSize       the maximum number of instances borrowed at the same time
+     * @param maxIdle       the time after which an idle instance is evicted
+     * @param borrowTimeout the maximum time to wait for an instance when the pool is exhausted
+     * @throws IllegalArgumentException if {@code maxSize} is less than 1
+     */
+    public BeanPool(String name, ObjectFactory<T> factory, int maxSize, Duration maxIdle, Duration borrowTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive but was: %d".formatted(maxSize));
+        }
+
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrows an instance from the pool, creating one if no idle instance is available.
+     *
+     * @return the borrowed instance
+     * @throws BeanContextException if no instance became available within the borrow timeout,
+     *                              or if the waiting thread was interrupted
+     */
+    public T borrow() {
+        evictIdle();
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                throw new BeanContextException("Timed out after %d ms waiting for pooled bean '%s' (max size: %d)"
+                        .formatted(TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos), name, maxSize));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BeanContextException("Interrupted while waiting for pooled bean '%s'".formatted(name));
+        }
+
+        try {
+            Idle<T> entry    = idle.pollFirst();
+            T       instance = entry != null ? entry.instance() : create();
+
+            borrowed.add(instance);
+            borrows.increment();
+
+            return instance;
+        } catch (RuntimeException | Error exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns a borrowed instance to the pool.
+     *
+     * @param instance the instance obtained from {@link #borrow()}
+     * @throws BeanContextException if the instance is not currently borrowed from this pool
+     */
+    public void release(T instance) {
+        if (!borrowed.remove(instance)) {
+            throw new BeanContextException("Instance '%s' is not borrowed from pool '%s'".formatted(instance, name));
+        }
+
+        idle.offerFirst(new Idle<>(instance, System.nanoTime()));
+        permits.release();
+    }
+
+    /**
+     * Checks whether the given instance is currently borrowed from this pool.
+     *
+     * @param instance the instance to check
+     * @return {@code true} if the instance is borrowed
+     */
+    public boolean isBorrowed(Object instance) {
+        return borrowed.contains(instance);
+    }
+
+    /**
+     * Adds an externally created instance to the idle instances of the pool.
+     *
+     * @param instance the instance to add
+     */
+    public void add(T instance) {
+        idle.offerFirst(new Idle<>(instance, System.nanoTime()));
+    }
+
+    /**
+     * Removes and closes every instance that has been idle for longer than the idle timeout.
+     * <p>
+     * Idle instances are ordered from the most to the least recently returned, so only the tail is inspected.
+     * </p>
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+
+        for (Iterator<Idle<T>> iterator = idle.descendingIterator(); iterator.hasNext(); ) {
+            Idle<T> entry = iterator.next();
+
+            if (now - entry.returnedAt() < maxIdleNanos) {
+                break;
+            }
+
+            if (idle.removeLastOccurrence(entry)) {
+                evicted.increment();
+                close(entry.instance());
+            }
+        }
+    }
+
+    /**
+     * Removes and closes all idle instances.
+     */
+    public void clear() {
+        for (Idle<T> entry; (entry = idle.pollFirst()) != null; ) {
+            evicted.increment();
+            close(entry.instance());
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool counters.
+     *
+     * @return the current pool metrics
+     */
+    public Metrics getMetrics() {
+        return new Metrics(name, maxSize, idle.size(), borrowed.size(), permits.getQueueLength(),
+                           created.sum(), borrows.sum(), evicted.sum(), timeouts.sum());
+    }
+
+    private T create() {
+        T instance = factory.createObject();
+
+        if (instance == null) {
+            throw new BeanContextException("ObjectFactory must produce a non-null object");
+        }
+
+        created.increment();
+        LOGGER.debug("Created instance #{} of pooled bean '{}'", created.sum(), name);
+
+        return instance;
+    }
+
+    private void close(T instance) {
+        if (instance instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception exception) {
+                LOGGER.warn("Failed to close evicted instance of pooled bean '{}'. Cause: {}",
+                            name, exception.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getMetrics().toString();
+    }
+
+    /**
+     * An idle instance together with the time it was returned.
+     */
+    private record Idle<T>(T instance, long returnedAt) {
+    }
+
+    /**
+     * Point-in-time counters of a {@link BeanPool}.
+     *
+     * @param name     the bean name
+     * @param maxSize  the maximum number of borrowed instances
+     * @param idle     the number of idle instances
+     * @param active   the number of borrowed instances
+     * @param waiting  the estimated number of threads waiting for an instance
+     * @param created  the total number of created instances
+     * @param borrowed the total number of borrows
+     * @param evicted  the total number of evicted instances
+     * @param timeouts the total number of borrows that timed out
+     */
+    public record Metrics(String name, int maxSize, int idle, int active, int waiting,
+                          long created, long borrowed, long evicted, long timeouts) {
+
+        @Override
+        public String toString() {
+            return "Pool '%s': %d/%d active, %d idle, %d waiting (created: %d, borrowed: %d, evicted: %d, timeouts: %d)"
+                    .formatted(name, active, maxSize, idle, waiting, created, borrowed, evicted, timeouts);
+        }
+
+    }
+
+}
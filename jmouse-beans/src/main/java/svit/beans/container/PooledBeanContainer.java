@@ -0,0 +1,257 @@
+package svit.beans.container;
+
+import svit.beans.BeanContainer;
+import svit.beans.BeanContext;
+import svit.beans.BeanContextException;
+import svit.beans.ObjectFactory;
+import svit.beans.Scope;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BeanContainer} implementation that manages beans of the {@link PooledScope} in bounded pools.
+ * <p>
+ * Every lookup of a pooled bean borrows an instance from the {@link BeanPool} of that bean, so at most
+ * {@code maxSize} instances per bean exist at the same time, independently of the number of threads.
+ * A borrowed instance must be handed back through {@link #release(Object)}, or obtained as a {@link Lease}
+ * that returns it when closed.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * PooledBeanContainer pooled = new PooledBeanContainer(16, Duration.ofMinutes(5), Duration.ofSeconds(2));
+ *
+ * context.registerBeanContainer(PooledScope.POOLED_SCOPE, pooled);
+ * context.registerBean("dateFormat", () -> new SimpleDateFormat("yyyy-MM-dd"), PooledScope.POOLED_SCOPE);
+ *
+ * try (PooledBeanContainer.Lease<SimpleDateFormat> lease = pooled.lease(context, "dateFormat")) {
+ *     String formatted = lease.get().format(new Date());
+ * }
+ * }</pre>
+ */
+public class PooledBeanContainer implements BeanContainer {
+
+    /**
+     * Default maximum number of instances borrowed at the same time, per bean.
+     */
+    public static final int DEFAULT_MAX_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * Default time after which an idle instance is evicted.
+     */
+    public static final Duration DEFAULT_MAX_IDLE = Duration.ofMinutes(5);
+
+    /**
+     * Default maximum time to wait for an instance when a pool is exhausted.
+     */
+    public static final Duration DEFAULT_BORROW_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Map<String, BeanPool<Object>> pools = new ConcurrentHashMap<>();
+    private final int                           maxSize;
+    private final Duration                      maxIdle;
+    private final Duration                      borrowTimeout;
+
+    /**
+     * Creates a container with the default pool settings.
+     */
+    public PooledBeanContainer() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_IDLE, DEFAULT_BORROW_TIMEOUT);
+    }
+
+    /**
+     * Creates a container whose pools use the given settings.
+     *
+     * @param maxSize       the maximum number of instances borrowed at the same time, per bean
+     * @param maxIdle       the time after which an idle instance is evicted
+     * @param borrowTimeout the maximum time to wait for an instance when a pool is exhausted
+     */
+    public PooledBeanContainer(int maxSize, Duration maxIdle, Duration borrowTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive but was: %d".formatted(maxSize));
+        }
+
+        this.maxSize = maxSize;
+        this.maxIdle = maxIdle;
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    /**
+     * Always returns {@code null}: an instance can only be borrowed together with the factory
+     * that creates it, see {@link #getBean(String, ObjectFactory)}.
+     *
+     * @param name the name of the bean.
+     * @param <T>  the type of the bean.
+     * @return always {@code null}.
+     */
+    @Override
+    public <T> T getBean(String name) {
+        return null;
+    }
+
+    /**
+     * Borrows an instance of the bean from its pool, creating the pool on first access.
+     *
+     * @param name          the name of the bean.
+     * @param objectFactory the factory used to create new pooled instances.
+     * @param <T>           the type of the bean.
+     * @return the borrowed instance, to be returned with {@link #release(Object)}.
+     * @throws BeanContextException if the pool stays exhausted for longer than the borrow timeout.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(String name, ObjectFactory<T> objectFactory) {
+        return (T) getPool(name, (ObjectFactory<Object>) objectFactory).borrow();
+    }
+
+    /**
+     * Adds an externally created instance as an idle instance of the bean's pool.
+     * <p>
+     * The pool must already exist, i.e. the bean must have been looked up at least once.
+     *
+     * @param name the name of the bean.
+     * @param bean the bean instance to add.
+     * @throws BeanContextException if no pool exists for the bean.
+     */
+    @Override
+    public void registerBean(String name, Object bean) {
+        BeanPool<Object> pool = pools.get(name);
+
+        if (pool == null) {
+            throw new BeanContextException(
+                    "No pool exists for bean '%s', it must be registered with an ObjectFactory".formatted(name));
+        }
+
+        pool.add(bean);
+    }
+
+    /**
+     * Checks whether a pool exists for the bean with the specified name.
+     *
+     * @param name the name of the bean.
+     * @return {@code true} if the bean has a pool, {@code false} otherwise.
+     */
+    @Override
+    public boolean containsBean(String name) {
+        return pools.containsKey(name);
+    }
+
+    /**
+     * Determines if this container supports the given {@link Scope}.
+     *
+     * @param scope the {@link Scope} to check.
+     * @return {@code true} if the scope matches the pooled scope, {@code false} otherwise.
+     */
+    @Override
+    public boolean supports(Scope scope) {
+        return PooledScope.POOLED_SCOPE.equals(scope);
+    }
+
+    /**
+     * Returns a borrowed instance to the pool it was borrowed from.
+     *
+     * @param bean the instance obtained from the context.
+     * @throws BeanContextException if the instance is not currently borrowed from any pool of this container.
+     */
+    public void release(Object bean) {
+        for (BeanPool<Object> pool : pools.values()) {
+            if (pool.isBorrowed(bean)) {
+                pool.release(bean);
+                return;
+            }
+        }
+
+        throw new BeanContextException("Bean '%s' is not borrowed from '%s'".formatted(bean, this));
+    }
+
+    /**
+     * Borrows an instance of the named bean through the context and wraps it in a {@link Lease}
+     * that returns the instance to its pool when closed.
+     *
+     * @param context the context owning the bean definition.
+     * @param name    the name of the pooled bean.
+     * @param <T>     the type of the bean.
+     * @return a lease on the borrowed instance.
+     */
+    public <T> Lease<T> lease(BeanContext context, String name) {
+        return new Lease<>(this, context.getBean(name));
+    }
+
+    /**
+     * Evicts the instances idle for too long from all pools.
+     */
+    public void evictIdle() {
+        pools.values().forEach(BeanPool::evictIdle);
+    }
+
+    /**
+     * Returns the metrics of every pool of this container.
+     *
+     * @return a list of pool metrics
+     */
+    public List<BeanPool.Metrics> getMetrics() {
+        List<BeanPool.Metrics> metrics = new ArrayList<>();
+
+        for (BeanPool<Object> pool : pools.values()) {
+            metrics.add(pool.getMetrics());
+        }
+
+        return metrics;
+    }
+
+    private BeanPool<Object> getPool(String name, ObjectFactory<Object> objectFactory) {
+        return pools.computeIfAbsent(name, key -> new BeanPool<>(key, objectFactory, maxSize, maxIdle, borrowTimeout));
+    }
+
+    @Override
+    public String toString() {
+        return "Pools: " + pools.size();
+    }
+
+    /**
+     * A borrowed pooled bean that is returned to its pool when the lease is closed.
+     *
+     * @param <T> the type of the bean
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final PooledBeanContainer container;
+        private final T                   bean;
+        private       boolean             closed;
+
+        private Lease(PooledBeanContainer container, T bean) {
+            this.container = container;
+            this.bean = bean;
+        }
+
+        /**
+         * Returns the borrowed instance.
+         *
+         * @return the bean instance
+         * @throws BeanContextException if the lease was already closed
+         */
+        public T get() {
+            if (closed) {
+                throw new BeanContextException("Lease on pooled bean '%s' is already closed".formatted(bean));
+            }
+
+            return bean;
+        }
+
+        /**
+         * Returns the instance to its pool. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                container.release(bean);
+            }
+        }
+
+    }
+
+}
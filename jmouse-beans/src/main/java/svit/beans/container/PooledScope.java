@@ -0,0 +1,33 @@
+package svit.beans.container;
+
+import svit.beans.Scope;
+
+/**
+ * Enum representing a pooled {@link Scope}.
+ * <p>
+ * Beans in this scope are kept in a bounded pool: every lookup borrows an idle instance
+ * (creating one while the pool is not full) and the instance is handed back once the caller is done with it.
+ * This suits expensive, non-thread-safe components such as formatters, parsers or codec buffers.
+ *
+ * @see PooledBeanContainer
+ */
+public enum PooledScope implements Scope {
+
+    /**
+     * The singleton instance of the pooled scope.
+     */
+    POOLED_SCOPE;
+
+    /**
+     * Returns the unique identifier for this scope.
+     * <p>
+     * The ID is a constant value (1001) that uniquely identifies the pooled scope.
+     *
+     * @return the unique ID of the pooled scope.
+     */
+    @Override
+    public int id() {
+        return 1001;
+    }
+
+}
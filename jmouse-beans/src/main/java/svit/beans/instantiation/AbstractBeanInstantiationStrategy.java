@@ -1,7 +1,9 @@
 package svit.beans.instantiation;
 
 import svit.beans.BeanContext;
+import svit.beans.definition.BeanDefinition;
 import svit.beans.definition.BeanDependency;
+import svit.beans.definition.MethodBeanDefinition;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,4 +48,33 @@ public abstract class AbstractBeanInstantiationStrategy implements BeanInstantia
 
         return arguments.toArray(Object[]::new);
     }
+
+    /**
+     * Resolves or retrieves the factory object for the given {@link MethodBeanDefinition}.
+     * <p>
+     * If the factory object is not explicitly set, it is retrieved from the parent bean definition
+     * in the {@link BeanContext}.
+     *
+     * @param definition the method-based bean definition
+     * @param context    the {@link BeanContext} to resolve the factory object
+     * @return the factory object to invoke the method on
+     */
+    protected Object resolveFactoryBean(MethodBeanDefinition definition, BeanContext context) {
+        Object factoryBean = definition.getFactoryObject();
+
+        if (factoryBean == null) {
+            BeanDefinition parent = definition.getParentDefinition();
+
+            factoryBean = context.getBean(parent.getBeanName());
+
+            // Set the resolved factory object for all child definitions of the parent
+            for (BeanDefinition childDefinition : parent.getChildrenDefinitions()) {
+                if (childDefinition instanceof MethodBeanDefinition methodBeanDefinition) {
+                    methodBeanDefinition.setFactoryObject(factoryBean);
+                }
+            }
+        }
+
+        return factoryBean;
+    }
 }
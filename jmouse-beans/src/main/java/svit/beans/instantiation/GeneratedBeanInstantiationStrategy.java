@@ -0,0 +1,266 @@
+package svit.beans.instantiation;
+
+import svit.beans.BeanContext;
+import svit.beans.BeanInstantiationException;
+import svit.beans.BeanInstantiationType;
+import svit.beans.definition.BeanDefinition;
+import svit.beans.definition.BeanDependency;
+import svit.beans.definition.ConstructorBeanDefinition;
+import svit.beans.definition.MethodBeanDefinition;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link BeanInstantiationStrategy} for constructor and factory-method beans that replaces reflective
+ * calls with an instantiator generated the first time a constructor or factory method is used.
+ * <p>
+ * For up to two arguments (the receiver of an instance factory method counts as one), the instantiator is
+ * spun by {@link LambdaMetafactory} as a {@link Supplier}, {@link Function} or {@link BiFunction}, so
+ * steady-state creation is a plain interface call into a direct constructor or method invocation.
+ * Executables with more arguments, or ones the generated class could not link against (any non-public
+ * member or type in the signature, or a type the framework's class loader cannot see, such as a class of a
+ * web application loader), use a spreading {@link MethodHandle} instead. Either way, {@code setAccessible}
+ * and argument adaptation happen only once.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * DefaultBeanFactory factory = new DefaultBeanFactory();
+ * factory.addStrategy(new GeneratedBeanInstantiationStrategy());
+ * factory.addStrategy(new ObjectFactoryBeanInstantiationStrategy());
+ * }</pre>
+ */
+public class GeneratedBeanInstantiationStrategy extends AbstractBeanInstantiationStrategy {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Generated instantiators, shared by all definitions pointing to the same executable.
+     */
+    private final Map<Executable, Instantiator> instantiators = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a bean instance using the constructor or factory method of the definition.
+     *
+     * @param definition the bean definition describing how the bean should be created
+     * @param context    the {@link BeanContext} for resolving dependencies and factory objects
+     * @return the instantiated bean object
+     * @throws BeanInstantiationException if dependency resolution or instantiation fails
+     */
+    @Override
+    public Object create(BeanDefinition definition, BeanContext context) {
+        Executable executable;
+        Object     receiver = null;
+
+        if (definition instanceof MethodBeanDefinition methodDefinition) {
+            executable = methodDefinition.getFactoryMethod();
+            if (!Modifier.isStatic(executable.getModifiers())) {
+                receiver = resolveFactoryBean(methodDefinition, context);
+            }
+        } else {
+            executable = ((ConstructorBeanDefinition) definition).getConstructor();
+        }
+
+        Object[] arguments = resolveArguments(definition, receiver, context);
+
+        try {
+            return instantiators.computeIfAbsent(executable, this::createInstantiator).instantiate(arguments);
+        } catch (BeanInstantiationException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new BeanInstantiationException(
+                    "Failed to instantiate bean '%s' via '%s'".formatted(definition.getBeanName(), executable),
+                    throwable);
+        }
+    }
+
+    /**
+     * Determines if this strategy supports the given {@link BeanDefinition}.
+     * <p>
+     * This strategy supports definitions with an instantiation type of {@link BeanInstantiationType#CONSTRUCTOR}
+     * or {@link BeanInstantiationType#FACTORY_METHOD}.
+     *
+     * @param definition the bean definition to evaluate
+     * @return {@code true} if the definition is supported, otherwise {@code false}
+     */
+    @Override
+    public boolean supports(BeanDefinition definition) {
+        return definition.getInstantiationType() == BeanInstantiationType.CONSTRUCTOR
+                || definition.getInstantiationType() == BeanInstantiationType.FACTORY_METHOD;
+    }
+
+    /**
+     * Resolves the invocation arguments, prepending the factory object for instance factory methods.
+     */
+    private Object[] resolveArguments(BeanDefinition definition, Object receiver, BeanContext context) {
+        List<BeanDependency> dependencies = definition.getBeanDependencies();
+        int                  offset       = receiver == null ? 0 : 1;
+
+        if (dependencies.isEmpty() && offset == 0) {
+            return NO_ARGUMENTS;
+        }
+
+        Object[] arguments = new Object[dependencies.size() + offset];
+
+        if (receiver != null) {
+            arguments[0] = receiver;
+        }
+
+        try {
+            for (int i = 0; i < dependencies.size(); i++) {
+                BeanDependency dependency = dependencies.get(i);
+                arguments[i + offset] = context.getBean(dependency.type(), dependency.name());
+            }
+        } catch (RuntimeException exception) {
+            throw new BeanInstantiationException("Failed to create bean via %s strategy for bean type: %s"
+                    .formatted(definition instanceof MethodBeanDefinition ? "method" : "constructor",
+                               definition.getBeanClass()), exception);
+        }
+
+        return arguments;
+    }
+
+    /**
+     * Generates an instantiator for the given constructor or factory method.
+     */
+    private Instantiator createInstantiator(Executable executable) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle         handle;
+
+        try {
+            executable.setAccessible(true);
+            handle = executable instanceof Constructor<?> constructor
+                    ? lookup.unreflectConstructor(constructor) : lookup.unreflect((Method) executable);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            throw new BeanInstantiationException("Unable to access '%s'".formatted(executable), exception);
+        }
+
+        Instantiator instantiator = isLinkable(executable) ? createLambda(lookup, handle) : null;
+
+        if (instantiator == null) {
+            MethodHandle spreader = handle.asSpreader(Object[].class, handle.type().parameterCount())
+                    .asType(SPREAD_TYPE);
+            instantiator = spreader::invokeExact;
+        }
+
+        return instantiator;
+    }
+
+    /**
+     * Checks that the executable and every type in its signature are accessible from any class and visible
+     * from the class loader of this framework, which is required for the generated lambda class to link.
+     * <p>
+     * A type loaded by a child loader fails only when the generated class first runs, long after the
+     * metafactory accepted it, so it has to be ruled out up front.
+     * </p>
+     */
+    private boolean isLinkable(Executable executable) {
+        boolean linkable = Modifier.isPublic(executable.getModifiers()) && isLinkable(executable.getDeclaringClass());
+
+        for (Class<?> type : executable.getParameterTypes()) {
+            linkable &= isLinkable(type);
+        }
+
+        if (executable instanceof Method method) {
+            linkable &= isLinkable(method.getReturnType());
+        }
+
+        return linkable;
+    }
+
+    private boolean isLinkable(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+
+        if (type.isPrimitive()) {
+            return true;
+        }
+
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+
+        return isVisible(type);
+    }
+
+    private boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, GeneratedBeanInstantiationStrategy.class.getClassLoader())
+                    == type;
+        } catch (ClassNotFoundException | LinkageError error) {
+            return false;
+        }
+    }
+
+    /**
+     * Tries to bind the handle to a functional interface through {@link LambdaMetafactory}.
+     *
+     * @return the instantiator, or {@code null} if the arity is too large or the metafactory rejects the handle
+     */
+    @SuppressWarnings("unchecked")
+    private Instantiator createLambda(MethodHandles.Lookup lookup, MethodHandle handle) {
+        MethodType type = handle.type();
+
+        try {
+            return switch (type.parameterCount()) {
+                case 0 -> {
+                    Supplier<Object> supplier = (Supplier<Object>) metafactory(lookup, handle, Supplier.class, "get");
+                    yield arguments -> supplier.get();
+                }
+                case 1 -> {
+                    Function<Object, Object> function = (Function<Object, Object>) metafactory(
+                            lookup, handle, Function.class, "apply");
+                    yield arguments -> function.apply(arguments[0]);
+                }
+                case 2 -> {
+                    BiFunction<Object, Object, Object> function = (BiFunction<Object, Object, Object>) metafactory(
+                            lookup, handle, BiFunction.class, "apply");
+                    yield arguments -> function.apply(arguments[0], arguments[1]);
+                }
+                default -> null;
+            };
+        } catch (Throwable ignored) {
+            // rejected by the metafactory, the spreading handle is used instead
+            return null;
+        }
+    }
+
+    /**
+     * Spins an implementation of the given functional interface that directly invokes the handle.
+     */
+    private Object metafactory(MethodHandles.Lookup lookup, MethodHandle handle, Class<?> functionalInterface,
+                               String methodName) throws Throwable {
+        MethodType type         = handle.type();
+        MethodType instantiated = type.wrap().changeReturnType(Object.class);
+        MethodType erased       = instantiated.erase();
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup, methodName, MethodType.methodType(functionalInterface), erased, handle, instantiated);
+
+        return site.getTarget().invoke();
+    }
+
+    /**
+     * Invokes a generated constructor or factory method with already resolved arguments.
+     */
+    @FunctionalInterface
+    private interface Instantiator {
+        Object instantiate(Object[] arguments) throws Throwable;
+    }
+
+}
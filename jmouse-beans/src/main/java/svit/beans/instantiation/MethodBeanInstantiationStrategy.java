@@ -64,35 +64,6 @@ public class MethodBeanInstantiationStrategy extends AbstractBeanInstantiationSt
         return Reflections.invokeMethod(factoryObject, factoryMethod, arguments);
     }
 
-    /**
-     * Resolves or retrieves the factory object for the given {@link MethodBeanDefinition}.
-     * <p>
-     * If the factory object is not explicitly set, it is retrieved from the parent bean definition
-     * in the {@link BeanContext}.
-     *
-     * @param definition the method-based bean definition
-     * @param context    the {@link BeanContext} to resolve the factory object
-     * @return the factory object to invoke the method on
-     */
-    private Object resolveFactoryBean(MethodBeanDefinition definition, BeanContext context) {
-        Object factoryBean = definition.getFactoryObject();
-
-        if (factoryBean == null) {
-            BeanDefinition parent = definition.getParentDefinition();
-
-            factoryBean = context.getBean(parent.getBeanName());
-
-            // Set the resolved factory object for all child definitions of the parent
-            for (BeanDefinition childDefinition : parent.getChildrenDefinitions()) {
-                if (childDefinition instanceof MethodBeanDefinition methodBeanDefinition) {
-                    methodBeanDefinition.setFactoryObject(factoryBean);
-                }
-            }
-        }
-
-        return factoryBean;
-    }
-
     /**
      * Determines if this strategy supports the given {@link BeanDefinition}.
      * <p>
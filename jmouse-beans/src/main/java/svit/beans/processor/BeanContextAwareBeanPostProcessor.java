@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import svit.beans.BeanContext;
 import svit.beans.BeanContextAware;
+import svit.beans.BeanInstantiationType;
 import svit.beans.definition.BeanDefinition;
 import org.jmouse.core.reflection.Reflections;
 
@@ -21,6 +22,17 @@ public class BeanContextAwareBeanPostProcessor implements BeanPostProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BeanContextAwareBeanPostProcessor.class);
 
+    /**
+     * Skips constructor-created beans whose class does not implement {@link BeanContextAware}.
+     * Beans of other instantiation types may be subclasses of the declared type and are always processed.
+     */
+    @Override
+    public boolean supports(BeanDefinition definition) {
+        return definition.getInstantiationType() != BeanInstantiationType.CONSTRUCTOR
+                || definition.getBeanClass() == null
+                || BeanContextAware.class.isAssignableFrom(definition.getBeanClass());
+    }
+
     /**
      * Injects the {@link BeanContext} into beans implementing {@link BeanContextAware}
      * after their initialization.
@@ -13,6 +13,20 @@ import svit.beans.definition.BeanDefinition;
  */
 public interface BeanPostProcessor {
 
+    /**
+     * Determines whether this processor has to run for beans created from the given definition.
+     * <p>
+     * The answer must depend on the definition only, it is computed once per definition and cached
+     * in a {@link BeanPostProcessorChain}. The default implementation applies to every definition.
+     * </p>
+     *
+     * @param definition the {@link BeanDefinition} of the beans about to be processed.
+     * @return {@code true} if the processor applies to the definition.
+     */
+    default boolean supports(BeanDefinition definition) {
+        return true;
+    }
+
     /**
      * Performs operations before a bean is initialized.
      *
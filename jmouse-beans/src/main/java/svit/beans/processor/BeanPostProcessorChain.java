@@ -0,0 +1,116 @@
+package svit.beans.processor;
+
+import svit.beans.BeanContext;
+import svit.beans.definition.BeanDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The effective {@link BeanPostProcessor}s of a single {@link BeanDefinition}, split into the before and after
+ * initialization phases.
+ * <p>
+ * A processor becomes part of a chain only if it {@linkplain BeanPostProcessor#supports(BeanDefinition) supports}
+ * the definition, and only for the phases it actually overrides. A processor implementing just
+ * {@link BeanPostProcessor#postProcessAfterInitialize(Object, BeanDefinition, BeanContext)} is therefore never
+ * called before initialization. Chains are meant to be computed once per definition and reused for every
+ * instance created from it.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * BeanPostProcessorChain chain = BeanPostProcessorChain.of(processors, definition);
+ *
+ * for (BeanPostProcessor processor : chain.getBefore()) {
+ *     bean = processor.postProcessBeforeInitialize(bean, definition, context);
+ * }
+ * }</pre>
+ */
+public final class BeanPostProcessorChain {
+
+    private static final ClassValue<Boolean> OVERRIDES_BEFORE = overrides("postProcessBeforeInitialize");
+    private static final ClassValue<Boolean> OVERRIDES_AFTER  = overrides("postProcessAfterInitialize");
+
+    private final List<BeanPostProcessor> before;
+    private final List<BeanPostProcessor> after;
+
+    private BeanPostProcessorChain(List<BeanPostProcessor> before, List<BeanPostProcessor> after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Selects the processors applicable to the given definition, keeping their registration order.
+     *
+     * @param processors all registered processors
+     * @param definition the bean definition
+     * @return the chain of the definition
+     */
+    public static BeanPostProcessorChain of(List<BeanPostProcessor> processors, BeanDefinition definition) {
+        List<BeanPostProcessor> before = new ArrayList<>();
+        List<BeanPostProcessor> after  = new ArrayList<>();
+
+        for (BeanPostProcessor processor : processors) {
+            if (processor.supports(definition)) {
+                if (OVERRIDES_BEFORE.get(processor.getClass())) {
+                    before.add(processor);
+                }
+                if (OVERRIDES_AFTER.get(processor.getClass())) {
+                    after.add(processor);
+                }
+            }
+        }
+
+        return new BeanPostProcessorChain(List.copyOf(before), List.copyOf(after));
+    }
+
+    /**
+     * Returns the processors applied before initialization.
+     *
+     * @return an immutable list of processors
+     */
+    public List<BeanPostProcessor> getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the processors applied after initialization.
+     *
+     * @return an immutable list of processors
+     */
+    public List<BeanPostProcessor> getAfter() {
+        return after;
+    }
+
+    /**
+     * Checks whether the chain contains no processors at all.
+     *
+     * @return {@code true} if neither phase has processors
+     */
+    public boolean isEmpty() {
+        return before.isEmpty() && after.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BeanPostProcessorChain[before=%d, after=%d]".formatted(before.size(), after.size());
+    }
+
+    /**
+     * Detects whether a processor class overrides the given phase method of {@link BeanPostProcessor}.
+     */
+    private static ClassValue<Boolean> overrides(String methodName) {
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                try {
+                    return type.getMethod(methodName, Object.class, BeanDefinition.class, BeanContext.class)
+                            .getDeclaringClass() != BeanPostProcessor.class;
+                } catch (NoSuchMethodException exception) {
+                    return true;
+                }
+            }
+        };
+    }
+
+}
@@ -3,12 +3,10 @@ package svit.beans.processor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import svit.beans.BeanContext;
+import svit.beans.BeanInstantiationType;
+import svit.beans.InjectionMetadata;
 import svit.beans.annotation.Dependency;
 import svit.beans.definition.BeanDefinition;
-import org.jmouse.core.reflection.FieldFinder;
-import org.jmouse.core.reflection.Reflections;
-
-import java.lang.reflect.Field;
 
 import static org.jmouse.core.reflection.Reflections.getFieldName;
 import static org.jmouse.core.reflection.Reflections.getShortName;
@@ -19,7 +17,8 @@ import static org.jmouse.core.reflection.Reflections.getShortName;
  * <p>
  * This processor scans the bean's class for fields annotated with {@link Dependency},
  * retrieves the corresponding bean instance from the {@link BeanContext}, and injects
- * it into the annotated field.
+ * it into the annotated field. Lazy fields receive a {@link svit.beans.BeanReference}
+ * or a proxy instead, and the target bean is resolved on first use.
  * </p>
  *
  * <p><b>Example:</b></p>
@@ -32,6 +31,17 @@ public class InjectDependencyBeanPostProcessor implements BeanPostProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InjectDependencyBeanPostProcessor.class);
 
+    /**
+     * Skips constructor-created beans whose class declares no {@code @Dependency} fields.
+     * Beans of other instantiation types may be subclasses of the declared type and are always processed.
+     */
+    @Override
+    public boolean supports(BeanDefinition definition) {
+        return definition.getInstantiationType() != BeanInstantiationType.CONSTRUCTOR
+                || definition.getBeanClass() == null
+                || !InjectionMetadata.forClass(definition.getBeanClass()).getFields().isEmpty();
+    }
+
     /**
      * Processes the given bean instance before initialization by injecting dependencies
      * into fields annotated with {@link Dependency}.
@@ -43,13 +53,11 @@ public class InjectDependencyBeanPostProcessor implements BeanPostProcessor {
      */
     @Override
     public Object postProcessBeforeInitialize(Object bean, BeanDefinition definition, BeanContext context) {
-        Field[] fields = FieldFinder.getAnnotatedWith(bean.getClass(), Dependency.class);
-
-        for (Field field : fields) {
-            Dependency dependency = field.getAnnotation(Dependency.class);
-            Object value = context.getBean(field.getType(), dependency.value());
-            Reflections.setFieldValue(bean, field, value);
-            LOGGER.info("Dependency '{}' injected into '{}' field", getShortName(value.getClass()), getFieldName(field));
+        for (InjectionMetadata.InjectedField field : InjectionMetadata.forClass(bean.getClass()).getFields()) {
+            Object value = field.resolve(context);
+            field.inject(bean, value);
+            LOGGER.info("Dependency '{}' injected into '{}' field",
+                        getShortName(value.getClass()), getFieldName(field.getField()));
         }
 
         return bean;
@@ -23,6 +23,14 @@ public class ProxyBeanPostProcessor implements BeanPostProcessor {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(ProxyBeanPostProcessor.class);
 
+    /**
+     * Applies only to definitions marked as proxied.
+     */
+    @Override
+    public boolean supports(BeanDefinition definition) {
+        return definition.isProxied();
+    }
+
     /**
      * Processes a bean before its initialization.
      * <p>
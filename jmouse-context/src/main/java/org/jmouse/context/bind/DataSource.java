@@ -64,7 +64,7 @@ public interface DataSource {
 
             if (!type.isEmpty()) {
                 if (type.isIndexed() && type.isNumeric()) {
-                    int index = Integer.parseInt(element.toString());
+                    int index = entries.getInt(counter);
                     nested = nested.get(index);
                 } else {
                     nested = nested.get(element.toString());
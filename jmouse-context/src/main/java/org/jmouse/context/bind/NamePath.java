@@ -1,6 +1,7 @@
 package org.jmouse.context.bind;
 
 import org.jmouse.util.Arrays;
+import org.jmouse.util.Numbers;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -397,6 +398,40 @@ final public class NamePath {
             return new Type(types[index]);
         }
 
+        /**
+         * Parses the segment at the given index as a decimal {@code int}, reading the underlying sequence
+         * directly instead of creating the segment.
+         *
+         * @param index        the index of the segment
+         * @param defaultValue the value returned if the segment is not a valid {@code int}
+         * @return the parsed segment or {@code defaultValue}
+         */
+        public int getInt(int index, int defaultValue) {
+            ensureIndexBounds(index);
+            return Numbers.parseInt(sequence, this.starts[index], this.ends[index], defaultValue);
+        }
+
+        /**
+         * Parses the segment at the given index as a decimal {@code int}, reading the underlying sequence
+         * directly; the segment is only created to report an invalid value.
+         *
+         * @param index the index of the segment
+         * @return the parsed segment
+         * @throws NumberFormatException if the segment is not a valid {@code int}, e.g. out of range
+         */
+        public int getInt(int index) {
+            ensureIndexBounds(index);
+
+            // Long.MIN_VALUE lies outside the int range, so it can only mean an invalid segment
+            long value = Numbers.parseLong(sequence, this.starts[index], this.ends[index], Long.MIN_VALUE);
+
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new NumberFormatException("For input string: \"%s\"".formatted(get(index)));
+            }
+
+            return (int) value;
+        }
+
         /**
          * Gets the length of the segment at the given index.
          *
@@ -56,24 +56,26 @@ public class PropertiesTransformer {
 
             for (int i = 0; i < entries.size(); i++) {
                 NamePath.Type type = entries.type(i);
-                String        key  = entries.get(i).toString();
 
                 if (type.isEmpty()) {
                     continue;
                 }
 
                 if (type.isNumeric() && collection != null) {
-                    int index = Integer.parseInt(key);
+                    // an index segment is parsed in place, its text is only built for a new nested map
+                    int index = entries.getInt(i);
                     if (entries.isLast(i)) {
                         collection.set(index, value);
                     } else {
                         current = (Map<String, Object>) collection.get(index);
                         if (current == null) {
-                            current = FACTORY_MAP.apply(key);
+                            current = FACTORY_MAP.apply(entries.get(i).toString());
                             collection.set(index, current);
                         }
                     }
                 } else {
+                    String key = entries.get(i).toString();
+
                     if (entries.isLast(i)) {
                         current.put(key, value);
                     } else if (entries.type(i + 1).isNumeric()) {
@@ -88,7 +90,7 @@ public class PropertiesTransformer {
                         }
 
                         collection = (List<Object>) source;
-                        expand(collection, Integer.parseInt(entries.get(i + 1).toString()));
+                        expand(collection, entries.getInt(i + 1));
                     } else {
                         Object source = current.get(key);
 
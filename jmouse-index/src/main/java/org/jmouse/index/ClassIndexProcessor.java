@@ -0,0 +1,221 @@
+package org.jmouse.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * An annotation processor that records, at compile time, which types carry one of the indexed annotations.
+ * <p>
+ * The result is written to {@value #INDEX_LOCATION} in the class output, one {@code annotation=type} entry
+ * per line, using binary class names. At runtime the index is read by
+ * {@code org.jmouse.core.reflection.scanner.ClassIndex}, which lets {@code ClassFinder} answer annotation
+ * lookups without walking and loading every class under the scanned packages.
+ * </p>
+ * <p>
+ * By default the bean, configuration, listener and proxy interceptor annotations are indexed. Additional
+ * annotations can be supplied as a comma-separated list through the {@value #ANNOTATIONS_OPTION} option.
+ * </p>
+ * <p>
+ * An incremental compilation sees only some of the sources, so the index left by the previous compilation
+ * is merged in. Its entries are replaced for every type compiled again and dropped for types that no
+ * longer exist.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessorPaths>
+ *             <path>
+ *                 <groupId>org.svitframework</groupId>
+ *                 <artifactId>jmouse-index</artifactId>
+ *                 <version>${jmouse.version}</version>
+ *             </path>
+ *         </annotationProcessorPaths>
+ *     </configuration>
+ * </plugin>
+ * }</pre>
+ */
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated index, relative to the class output root.
+     */
+    public static final String INDEX_LOCATION = "META-INF/jmouse/class.index";
+
+    /**
+     * Processor option holding extra annotation names to index.
+     */
+    public static final String ANNOTATIONS_OPTION = "jmouse.index.annotations";
+
+    /**
+     * Annotations indexed by default.
+     */
+    public static final Set<String> DEFAULT_ANNOTATIONS = Set.of(
+            "svit.beans.annotation.Provide",
+            "svit.beans.annotation.Configuration",
+            "org.jmouse.core.observer.annotation.Listener",
+            "org.jmouse.core.proxy.annotation.ProxyMethodInterceptor"
+    );
+
+    private final SortedSet<String> entries  = new TreeSet<>();
+    private final Set<String>       compiled = new HashSet<>();
+    private       Set<String>       indexed  = DEFAULT_ANNOTATIONS;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.indexed = getIndexedAnnotations();
+    }
+
+    /**
+     * Claims all annotation types, so that the processor also runs for compilations that no longer contain
+     * any indexed annotation and can remove their stale entries. Unclaimed annotations stay available to
+     * other processors.
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    private Set<String> getIndexedAnnotations() {
+        Set<String> annotations = new HashSet<>(DEFAULT_ANNOTATIONS);
+        String      additional  = processingEnv.getOptions().get(ANNOTATIONS_OPTION);
+
+        if (additional != null) {
+            for (String annotation : additional.split(",")) {
+                if (!annotation.isBlank()) {
+                    annotations.add(annotation.trim());
+                }
+            }
+        }
+
+        return annotations;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(ANNOTATIONS_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element root : roundEnv.getRootElements()) {
+            collectCompiled(root);
+        }
+
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+
+            if (!indexed.contains(annotationName)) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                // annotated methods are reached through their indexed declaring types
+                if (element instanceof TypeElement type) {
+                    String typeName = processingEnv.getElementUtils().getBinaryName(type).toString();
+                    entries.add(annotationName + "=" + typeName);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            boolean existing = mergeExistingIndex();
+
+            // rewrite an existing index even when empty, it may list types that lost their annotations
+            if (existing || !entries.isEmpty()) {
+                writeIndex();
+            }
+        }
+
+        return false;
+    }
+
+    private void collectCompiled(Element element) {
+        if (element instanceof TypeElement type) {
+            compiled.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            for (Element enclosed : type.getEnclosedElements()) {
+                collectCompiled(enclosed);
+            }
+        }
+    }
+
+    /**
+     * Adds the entries of the index written by a previous compilation, except those of types compiled in this
+     * one and of types that no longer exist.
+     *
+     * @return {@code true} if a previous index was found
+     */
+    private boolean mergeExistingIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (BufferedReader reader = new BufferedReader(resource.openReader(true))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    line = line.strip();
+                    int separator = line.indexOf('=');
+
+                    if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                        continue;
+                    }
+
+                    String typeName = line.substring(separator + 1);
+
+                    if (!compiled.contains(typeName) && exists(typeName)) {
+                        entries.add(line);
+                    }
+                }
+            }
+
+            return true;
+        } catch (IOException | IllegalArgumentException exception) {
+            // no index was written before
+            return false;
+        }
+    }
+
+    private boolean exists(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by %s, do not edit%n".formatted(getClass().getName()));
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write(System.lineSeparator());
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write class index '%s': %s".formatted(INDEX_LOCATION, exception.getMessage()));
+        }
+    }
+
+}
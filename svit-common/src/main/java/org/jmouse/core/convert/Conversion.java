@@ -1,11 +1,36 @@
 package org.jmouse.core.convert;
 
+import org.jmouse.core.reflection.TypeMap;
+import org.jmouse.util.Numbers;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
 /**
  * An extension of the {@link ConverterFactory} interface that provides convenient
  * conversion methods in addition to managing a registry of converters. It allows
  * both registration of converters and direct execution of conversions, making
  * it a one-stop interface for all conversion-related operations.
  *
+ * <p>The {@code convertToInt}, {@code convertToLong} and {@code convertToDouble} methods convert numbers and
+ * numeric text to primitives without boxing, which suits hot paths such as binding configuration values and
+ * request parameters. Their variants with a default value never throw.</p>
+ *
+ * <p>Bulk conversions of lists, sets, arrays and streams resolve the element conversion once through
+ * {@link #resolveConverter(Class, Class)} and fill a target of the final size in a single pass. Sources with
+ * at least {@link #getParallelThreshold()} elements are converted on the common
+ * {@link java.util.concurrent.ForkJoinPool}, so element converters must be thread-safe.</p>
+ *
+ * <pre>{@code
+ * List<Integer> ports   = conversion.convertList(values, String.class, Integer.class);
+ * int[]         indexes = conversion.convertToIntArray(List.of("1", "2", "3"));
+ * }</pre>
+ *
  * @see ConverterFactory
  */
 public interface Conversion extends ConverterFactory {
@@ -45,4 +70,329 @@ public interface Conversion extends ConverterFactory {
         }
         return converted;
     }
+
+    /**
+     * Converts the given value to a primitive {@code int} without boxing it. Numbers are converted like
+     * {@link Number#intValue()}, character sequences are parsed by {@link Numbers#parseInt(CharSequence, int)},
+     * and other values are converted to {@link Integer} by {@link #convert(Object, Class)}.
+     *
+     * @param source the value to convert
+     * @return the converted value
+     * @throws ConversionException if the value is {@code null} or not a valid {@code int}
+     */
+    default int convertToInt(Object source) {
+        if (source instanceof Number number) {
+            return number.intValue();
+        }
+
+        if (source instanceof CharSequence sequence) {
+            int value = Numbers.parseInt(sequence, 0);
+            // only a result equal to the default needs a second look
+            if (value == 0 && !Numbers.isInt(sequence)) {
+                throw new ConversionException("Unable to convert '%s' to int".formatted(sequence));
+            }
+            return value;
+        }
+
+        Integer converted = source == null ? null : convert(source, Integer.class);
+
+        if (converted == null) {
+            throw new ConversionException("Unable to convert %s to int".formatted(source));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Parses the given character sequence as a primitive {@code int} without allocating and without throwing
+     * an exception for invalid input.
+     *
+     * @param source       the characters to parse
+     * @param defaultValue the value returned if the characters are not a valid {@code int}
+     * @return the parsed value or {@code defaultValue}
+     * @see Numbers#parseInt(CharSequence, int, int, int)
+     */
+    default int convertToInt(CharSequence source, int defaultValue) {
+        return source == null ? defaultValue : Numbers.parseInt(source, defaultValue);
+    }
+
+    /**
+     * Converts the given value to a primitive {@code long} without boxing it. Numbers are converted like
+     * {@link Number#longValue()}, character sequences are parsed by {@link Numbers#parseLong(CharSequence, long)},
+     * and other values are converted to {@link Long} by {@link #convert(Object, Class)}.
+     *
+     * @param source the value to convert
+     * @return the converted value
+     * @throws ConversionException if the value is {@code null} or not a valid {@code long}
+     */
+    default long convertToLong(Object source) {
+        if (source instanceof Number number) {
+            return number.longValue();
+        }
+
+        if (source instanceof CharSequence sequence) {
+            long value = Numbers.parseLong(sequence, 0);
+            // only a result equal to the default needs a second look
+            if (value == 0 && !Numbers.isLong(sequence)) {
+                throw new ConversionException("Unable to convert '%s' to long".formatted(sequence));
+            }
+            return value;
+        }
+
+        Long converted = source == null ? null : convert(source, Long.class);
+
+        if (converted == null) {
+            throw new ConversionException("Unable to convert %s to long".formatted(source));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Parses the given character sequence as a primitive {@code long} without allocating and without throwing
+     * an exception for invalid input.
+     *
+     * @param source       the characters to parse
+     * @param defaultValue the value returned if the characters are not a valid {@code long}
+     * @return the parsed value or {@code defaultValue}
+     * @see Numbers#parseLong(CharSequence, int, int, long)
+     */
+    default long convertToLong(CharSequence source, long defaultValue) {
+        return source == null ? defaultValue : Numbers.parseLong(source, defaultValue);
+    }
+
+    /**
+     * Converts the given value to a primitive {@code double} without boxing it. Numbers are converted like
+     * {@link Number#doubleValue()}, character sequences are parsed by {@link Numbers#parseDouble(CharSequence, double)},
+     * and other values are converted to {@link Double} by {@link #convert(Object, Class)}.
+     *
+     * @param source the value to convert
+     * @return the converted value
+     * @throws ConversionException if the value is {@code null} or not a valid {@code double}
+     */
+    default double convertToDouble(Object source) {
+        if (source instanceof Number number) {
+            return number.doubleValue();
+        }
+
+        if (source instanceof CharSequence sequence) {
+            double value = Numbers.parseDouble(sequence, 0);
+            // only a result equal to the default needs a second look
+            if (value == 0 && !Numbers.isDouble(sequence)) {
+                throw new ConversionException("Unable to convert '%s' to double".formatted(sequence));
+            }
+            return value;
+        }
+
+        Double converted = source == null ? null : convert(source, Double.class);
+
+        if (converted == null) {
+            throw new ConversionException("Unable to convert %s to double".formatted(source));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Parses the given character sequence as a primitive {@code double} without allocating and without throwing
+     * an exception for invalid input.
+     *
+     * @param source       the characters to parse
+     * @param defaultValue the value returned if the characters are not a valid {@code double}
+     * @return the parsed value or {@code defaultValue}
+     * @see Numbers#parseDouble(CharSequence, int, int, double)
+     */
+    default double convertToDouble(CharSequence source, double defaultValue) {
+        return source == null ? defaultValue : Numbers.parseDouble(source, defaultValue);
+    }
+
+    /**
+     * Resolves how elements of the source type are converted to the target type and returns the result as a
+     * reusable converter. The default implementation delegates every call to
+     * {@link #convert(Object, Class, Class)}; implementations may resolve the conversion up front.
+     *
+     * @param <S>        the source type
+     * @param <T>        the target type
+     * @param sourceType the class representing the source type
+     * @param targetType the class representing the target type
+     * @return a converter that maps {@code null} to {@code null}
+     */
+    default <S, T> Converter<S, T> resolveConverter(Class<S> sourceType, Class<T> targetType) {
+        return source -> convert(source, sourceType, targetType);
+    }
+
+    /**
+     * Returns the number of elements from which bulk conversions are split over the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return the minimum size of a parallel bulk conversion, {@link Integer#MAX_VALUE} to never split
+     */
+    default int getParallelThreshold() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Converts all elements of the source collection into a new list, keeping their order.
+     *
+     * @param <S>        the source element type
+     * @param <T>        the target element type
+     * @param source     the elements to convert
+     * @param sourceType the class representing the source element type
+     * @param targetType the class representing the target element type
+     * @return a modifiable list of the converted elements
+     */
+    @SuppressWarnings({"unchecked"})
+    default <S, T> List<T> convertList(Collection<? extends S> source, Class<S> sourceType, Class<T> targetType) {
+        Converter<S, T> converter = resolveConverter(sourceType, targetType);
+
+        if (source.size() >= getParallelThreshold()) {
+            return new ArrayList<>(Arrays.asList(convertAll(source.toArray(), converter, length -> (T[]) new Object[length])));
+        }
+
+        List<T> converted = new ArrayList<>(source.size());
+
+        for (S element : source) {
+            converted.add(converter.convert(element));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Converts all elements of the source collection into a new set, keeping their iteration order.
+     *
+     * @param <S>        the source element type
+     * @param <T>        the target element type
+     * @param source     the elements to convert
+     * @param sourceType the class representing the source element type
+     * @param targetType the class representing the target element type
+     * @return a modifiable {@link LinkedHashSet} of the converted elements
+     */
+    @SuppressWarnings({"unchecked"})
+    default <S, T> Set<T> convertSet(Collection<? extends S> source, Class<S> sourceType, Class<T> targetType) {
+        Converter<S, T> converter = resolveConverter(sourceType, targetType);
+        Set<T>          converted = LinkedHashSet.newLinkedHashSet(source.size());
+
+        if (source.size() >= getParallelThreshold()) {
+            converted.addAll(Arrays.asList(convertAll(source.toArray(), converter, length -> (T[]) new Object[length])));
+        } else {
+            for (S element : source) {
+                converted.add(converter.convert(element));
+            }
+        }
+
+        return converted;
+    }
+
+    /**
+     * Converts all elements of the source array into a new array of the target type. A primitive target type
+     * yields an array of its wrapper type; use {@link #convertToIntArray(Collection)} and its siblings for
+     * primitive arrays.
+     *
+     * @param <S>        the source element type
+     * @param <T>        the target element type
+     * @param source     the elements to convert
+     * @param sourceType the class representing the source element type
+     * @param targetType the class representing the target element type
+     * @return an array of the converted elements with the same length as the source
+     */
+    @SuppressWarnings({"unchecked"})
+    default <S, T> T[] convertArray(S[] source, Class<S> sourceType, Class<T> targetType) {
+        Class<?> componentType = TypeMap.WRAPPERS.getOrDefault(targetType, targetType);
+        return convertAll(source, resolveConverter(sourceType, targetType),
+                          length -> (T[]) Array.newInstance(componentType, length));
+    }
+
+    /**
+     * Lazily converts the elements of the source stream. The stream stays sequential or parallel as it is.
+     *
+     * @param <S>        the source element type
+     * @param <T>        the target element type
+     * @param source     the elements to convert
+     * @param sourceType the class representing the source element type
+     * @param targetType the class representing the target element type
+     * @return a stream of the converted elements
+     */
+    default <S, T> Stream<T> convertStream(Stream<? extends S> source, Class<S> sourceType, Class<T> targetType) {
+        return source.map(resolveConverter(sourceType, targetType)::convert);
+    }
+
+    /**
+     * Converts all elements of the source collection into a primitive {@code int} array, as
+     * {@link #convertToInt(Object)} converts them.
+     *
+     * @param source the elements to convert
+     * @return the converted elements
+     * @throws ConversionException if an element is {@code null} or not a valid {@code int}
+     */
+    default int[] convertToIntArray(Collection<?> source) {
+        Object[]              elements  = source.toArray();
+        int[]                 converted = new int[elements.length];
+        ToIntFunction<Object> converter = this::convertToInt;
+
+        if (elements.length >= getParallelThreshold()) {
+            Arrays.parallelSetAll(converted, index -> converter.applyAsInt(elements[index]));
+        } else {
+            Arrays.setAll(converted, index -> converter.applyAsInt(elements[index]));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Converts all elements of the source collection into a primitive {@code long} array, as
+     * {@link #convertToLong(Object)} converts them.
+     *
+     * @param source the elements to convert
+     * @return the converted elements
+     * @throws ConversionException if an element is {@code null} or not a valid {@code long}
+     */
+    default long[] convertToLongArray(Collection<?> source) {
+        Object[]               elements  = source.toArray();
+        long[]                 converted = new long[elements.length];
+        ToLongFunction<Object> converter = this::convertToLong;
+
+        if (elements.length >= getParallelThreshold()) {
+            Arrays.parallelSetAll(converted, index -> converter.applyAsLong(elements[index]));
+        } else {
+            Arrays.setAll(converted, index -> converter.applyAsLong(elements[index]));
+        }
+
+        return converted;
+    }
+
+    /**
+     * Converts all elements of the source collection into a primitive {@code double} array, as
+     * {@link #convertToDouble(Object)} converts them.
+     *
+     * @param source the elements to convert
+     * @return the converted elements
+     * @throws ConversionException if an element is {@code null} or not a valid {@code double}
+     */
+    default double[] convertToDoubleArray(Collection<?> source) {
+        Object[]                 elements  = source.toArray();
+        double[]                 converted = new double[elements.length];
+        ToDoubleFunction<Object> converter = this::convertToDouble;
+
+        if (elements.length >= getParallelThreshold()) {
+            Arrays.parallelSetAll(converted, index -> converter.applyAsDouble(elements[index]));
+        } else {
+            Arrays.setAll(converted, index -> converter.applyAsDouble(elements[index]));
+        }
+
+        return converted;
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private <S, T> T[] convertAll(Object[] source, Converter<S, T> converter, IntFunction<T[]> factory) {
+        T[] converted = factory.apply(source.length);
+
+        if (source.length >= getParallelThreshold()) {
+            Arrays.parallelSetAll(converted, index -> converter.convert((S) source[index]));
+        } else {
+            Arrays.setAll(converted, index -> converter.convert((S) source[index]));
+        }
+
+        return converted;
+    }
 }
@@ -0,0 +1,131 @@
+package org.jmouse.core.convert;
+
+import java.util.*;
+
+/**
+ * The cheapest conversion routes between all pairs of types known to a set of converters.
+ * <p>
+ * Types are the nodes of a directed graph whose edges are the registered type pairs, weighted by the
+ * {@link GenericConverter#getCost(ClassPair) cost} of their converters. The table is computed once with the
+ * Floyd–Warshall algorithm, which suits the small and dense type graphs of a conversion registry, and keeps
+ * the next hop of the cheapest route for every pair, so looking up a route is a sequence of array reads.
+ * Among routes of equal cost the one with fewer conversions wins, and remaining ties are broken by type
+ * name, so the chosen routes do not depend on the order in which converters were registered.
+ * </p>
+ * <p>
+ * The table is immutable and safe for concurrent lookups.
+ * </p>
+ */
+final class ConversionRoutes {
+
+    // the hop count lives in the low bits of a weight, so equal costs are decided by the number of hops
+    private static final int  HOP_BITS = 20;
+    private static final long INFINITE = Long.MAX_VALUE;
+
+    private final Map<Class<?>, Integer> indexes = new HashMap<>();
+    private final Class<?>[]             types;
+    private final long[][]               weights;
+    private final int[][]                next;
+
+    ConversionRoutes(Map<ClassPair<?, ?>, GenericConverter<?, ?>> registered) {
+        // converters may be registered concurrently, nodes and edges must come from the same state
+        Map<ClassPair<?, ?>, GenericConverter<?, ?>> converters = Map.copyOf(registered);
+        Set<Class<?>>                                nodes      = new HashSet<>();
+
+        for (ClassPair<?, ?> classPair : converters.keySet()) {
+            nodes.add(classPair.classA());
+            nodes.add(classPair.classB());
+        }
+
+        List<Class<?>> sorted = new ArrayList<>(nodes);
+        sorted.sort(Comparator.comparing(Class::getName));
+
+        int size = sorted.size();
+
+        this.types = sorted.toArray(Class<?>[]::new);
+        this.weights = new long[size][size];
+        this.next = new int[size][size];
+
+        for (int index = 0; index < size; index++) {
+            indexes.put(types[index], index);
+            Arrays.fill(weights[index], INFINITE);
+            Arrays.fill(next[index], -1);
+            weights[index][index] = 0;
+            next[index][index] = index;
+        }
+
+        converters.forEach((classPair, converter) -> {
+            int from = indexes.get(classPair.classA());
+            int to   = indexes.get(classPair.classB());
+
+            if (from != to) {
+                weights[from][to] = ((long) Math.max(0, converter.getCost(classPair)) << HOP_BITS) + 1;
+                next[from][to] = to;
+            }
+        });
+
+        for (int via = 0; via < size; via++) {
+            long[] fromVia = weights[via];
+            for (int from = 0; from < size; from++) {
+                long toVia = weights[from][via];
+                if (toVia == INFINITE || from == via) {
+                    continue;
+                }
+                for (int to = 0; to < size; to++) {
+                    if (fromVia[to] != INFINITE && toVia + fromVia[to] < weights[from][to]) {
+                        weights[from][to] = toVia + fromVia[to];
+                        next[from][to] = next[from][via];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cheapest route from the source type to the target type.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the type pairs to convert along, or an empty list if the types are equal or not connected
+     */
+    List<ClassPair<?, ?>> getRoute(Class<?> sourceType, Class<?> targetType) {
+        Integer from = indexes.get(sourceType);
+        Integer to   = indexes.get(targetType);
+
+        if (from == null || to == null || next[from][to] < 0) {
+            return List.of();
+        }
+
+        List<ClassPair<?, ?>> route = new ArrayList<>();
+
+        for (int current = from; current != to; current = next[current][to]) {
+            route.add(new ClassPair<>(types[current], types[next[current][to]]));
+        }
+
+        return route;
+    }
+
+    /**
+     * Returns the total cost of the cheapest route from the source type to the target type.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the sum of the converter costs along the route, or {@code -1} if the types are not connected
+     */
+    long getCost(Class<?> sourceType, Class<?> targetType) {
+        Integer from = indexes.get(sourceType);
+        Integer to   = indexes.get(targetType);
+
+        if (from == null || to == null || weights[from][to] == INFINITE) {
+            return -1;
+        }
+
+        return weights[from][to] >>> HOP_BITS;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionRoutes[types=%d]".formatted(types.length);
+    }
+
+}
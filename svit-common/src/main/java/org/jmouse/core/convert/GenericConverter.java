@@ -33,6 +33,22 @@ import java.util.Set;
  */
 public interface GenericConverter<S, T> {
 
+    /**
+     * The cost of a conversion that preserves the value exactly, e.g. boxing or numeric widening.
+     */
+    int LOSSLESS_COST = 1;
+
+    /**
+     * The cost of an ordinary conversion, e.g. formatting or parsing text.
+     */
+    int DEFAULT_COST = 10;
+
+    /**
+     * The cost of a conversion that may lose information, e.g. numeric narrowing. It stays below the cost of
+     * a round trip through text, which loses the same information and may fail on top.
+     */
+    int LOSSY_COST = 15;
+
     /**
      * Converts the given source object of type {@code S} into an object of type {@code T},
      * using the provided {@code sourceType} and {@code targetType} for more specific conversion
@@ -75,6 +91,18 @@ public interface GenericConverter<S, T> {
      */
     Set<ClassPair<? extends S, ? extends T>> getSupportedTypes();
 
+    /**
+     * Returns the cost of converting along the given supported type pair. When no direct converter exists,
+     * {@link StandardConversion} chains converters along the route with the lowest total cost, so expensive or
+     * lossy steps are only taken when no cheaper route exists. Negative costs are treated as zero.
+     *
+     * @param classPair one of the {@link #getSupportedTypes() supported type pairs}
+     * @return the cost of the conversion, {@link #DEFAULT_COST} unless overridden
+     */
+    default int getCost(ClassPair<?, ?> classPair) {
+        return DEFAULT_COST;
+    }
+
     /**
      * Creates a {@link GenericConverter} for the specified source and target types, using the provided converter logic.
      *
@@ -86,6 +114,21 @@ public interface GenericConverter<S, T> {
      * @return a {@link GenericConverter} instance capable of converting between the specified types
      */
     static <S, T> GenericConverter<S, T> of(Class<S> sourceType, Class<? extends T> targetType, Converter<S, ? extends T> converter) {
+        return of(sourceType, targetType, converter, DEFAULT_COST);
+    }
+
+    /**
+     * Creates a {@link GenericConverter} for the specified source and target types with the given conversion cost.
+     *
+     * @param <S>        the source type
+     * @param <T>        the target type
+     * @param sourceType the source type {@link Class}
+     * @param targetType the target type {@link Class}
+     * @param converter  the conversion logic implemented as a {@link Converter}
+     * @param cost       the cost of the conversion, see {@link #getCost(ClassPair)}
+     * @return a {@link GenericConverter} instance capable of converting between the specified types
+     */
+    static <S, T> GenericConverter<S, T> of(Class<S> sourceType, Class<? extends T> targetType, Converter<S, ? extends T> converter, int cost) {
         return new GenericConverter<>() {
             @Override
             public T convert(S source, Class<S> sourceType, Class<T> targetType) {
@@ -96,6 +139,11 @@ public interface GenericConverter<S, T> {
             public Set<ClassPair<? extends S, ? extends T>> getSupportedTypes() {
                 return Set.of(new ClassPair<>(sourceType, targetType));
             }
+
+            @Override
+            public int getCost(ClassPair<?, ?> classPair) {
+                return cost;
+            }
         };
     }
 
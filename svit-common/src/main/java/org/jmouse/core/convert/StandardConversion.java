@@ -1,6 +1,5 @@
 package org.jmouse.core.convert;
 
-import org.jmouse.core.graph.*;
 import org.jmouse.core.reflection.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +14,23 @@ import static java.util.stream.Collectors.joining;
  * of {@link GenericConverter} instances mapped to specific {@link ClassPair}s, allowing
  * for dynamic registration and retrieval of converters. This implementation uses a
  * concurrent hash map to safely handle converters in multi-threaded environments.
+ * <p>
+ * How a source type is converted to a target type is resolved once into a conversion plan: the identity, a
+ * direct converter, a converter found through inherited types, a chain of converters, or the fact that no
+ * converter exists. Plans are cached per source and target class, so a repeated conversion is a single map
+ * lookup followed by the converter call, and a missing converter is reported without searching again. The
+ * cache is discarded whenever a converter is registered or removed.
+ * </p>
+ * <p>
+ * Chains follow the cheapest route through the registered converters, as weighed by
+ * {@link GenericConverter#getCost(ClassPair)}, so a lossless numeric conversion is preferred over a detour
+ * through {@link String}. Routes between all pairs of types are precomputed on the first search after the
+ * registered converters changed.
+ * </p>
+ * <p>
+ * Bulk conversions reuse one resolved plan for all elements. They run sequentially unless a
+ * {@link #setParallelThreshold(int) parallel threshold} is configured.
+ * </p>
  *
  * @see Conversion
  * @see GenericConverter
@@ -26,8 +42,10 @@ public class StandardConversion implements Conversion {
 
     private final Map<ClassPair<?, ?>, GenericConverter<?, ?>> converters = new ConcurrentHashMap<>();
     private final TypeNormalizer                               normalizer = new TypeNormalizer.EnumTypeNormalizer();
-    private final Graph<Class<?>>                              graph      = new MapListGraph<>();
-    private final PathFinder<Class<?>>                         pathFinder = new BFSPathFinder<>();
+
+    private volatile ClassValue<Map<Class<?>, ConversionPlan>> plans = createPlanCache();
+    private volatile ConversionRoutes                          routes;
+    private volatile int                                       parallelThreshold = Integer.MAX_VALUE;
 
     /**
      * Registers a simple {@link Converter} for converting from {@code sourceType} to {@code targetType}.
@@ -54,9 +72,10 @@ public class StandardConversion implements Conversion {
     @Override
     public void registerConverter(GenericConverter<?, ?> genericConverter) {
         for (ClassPair<?, ?> supportedType : genericConverter.getSupportedTypes()) {
-            graph.addEdge(supportedType.classA(), supportedType.classB());
             converters.putIfAbsent(supportedType, genericConverter);
         }
+
+        invalidate();
     }
 
     /**
@@ -84,6 +103,10 @@ public class StandardConversion implements Conversion {
             removed = converters.remove(classPair) != null;
         }
 
+        if (removed) {
+            invalidate();
+        }
+
         return removed;
     }
 
@@ -107,7 +130,7 @@ public class StandardConversion implements Conversion {
      * <p>
      * The method first looks up a converter based on the source and target types. If a converter is found,
      * it performs the conversion. If no direct converter is available, the method attempts to find a suitable converter
-     * through inherited types or by searching for a transition chain using a graph of type converters. If no converter
+     * through inherited types or by searching for the cheapest transition chain of type converters. If no converter
      * is found, a {@link ConverterNotFound} exception is thrown.
      * </p>
      *
@@ -125,53 +148,172 @@ public class StandardConversion implements Conversion {
         R converted = null;
 
         if (source != null) {
-            @SuppressWarnings({"unchecked"})
-            Class<R>        normalizedType = (Class<R>) normalizer.normalize(targetType);
-            ClassPair<T, R> classPair      = new ClassPair<>(sourceType, normalizedType);
+            converted = (R) getPlan(sourceType, targetType).convert(source, (Class<Object>) targetType);
+        }
 
-            if (classPair.isTheSame()) {
-                return (R) source;
-            }
+        return converted;
+    }
 
-            // Try to find a direct converter
-            GenericConverter<T, R> converter = getConverter(classPair);
+    /**
+     * Resolves the conversion plan for the given types once and returns it as a converter. The converter keeps
+     * using that plan when converters are registered or removed later.
+     *
+     * @param <S>        the source type
+     * @param <T>        the target type
+     * @param sourceType the class representing the source type
+     * @param targetType the class representing the target type
+     * @return a converter that maps {@code null} to {@code null}
+     */
+    @Override
+    @SuppressWarnings({"unchecked"})
+    public <S, T> Converter<S, T> resolveConverter(Class<S> sourceType, Class<T> targetType) {
+        ConversionPlan plan = getPlan(sourceType, targetType);
+        Class<Object>  type = (Class<Object>) targetType;
+        return source -> source == null ? null : (T) plan.convert(source, type);
+    }
 
-            if (converter == null) {
-                // Attempt to find a converter using inherited types
-                ClassPair<T, R> candidate = searchPossibleCandidate(sourceType, targetType);
+    /**
+     * Sets the number of elements from which bulk conversions are split over the common
+     * {@link java.util.concurrent.ForkJoinPool}. Parallel conversion pays off for large sources or expensive
+     * converters and requires all registered converters to be thread-safe.
+     *
+     * @param parallelThreshold the minimum size of a parallel bulk conversion, {@link Integer#MAX_VALUE} to
+     *                          always convert sequentially
+     * @throws IllegalArgumentException if the threshold is less than {@code 1}
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+        }
 
-                if (candidate != null) {
-                    classPair = candidate;
-                    converter = getConverter(classPair);
-                }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns the number of elements from which bulk conversions are split over the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return the minimum size of a parallel bulk conversion
+     */
+    @Override
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Returns the cached conversion plan for the given types, resolving it on first use.
+     */
+    private ConversionPlan getPlan(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, ConversionPlan> targets = plans.get(sourceType);
+        ConversionPlan                plan    = targets.get(targetType);
+
+        // resolved outside of computeIfAbsent, concurrent resolvers agree on the first plan stored
+        if (plan == null) {
+            plan = resolvePlan(sourceType, targetType);
+            ConversionPlan existing = targets.putIfAbsent(targetType, plan);
+            if (existing != null) {
+                plan = existing;
             }
+        }
 
-            if (converter == null) {
-                // Search for a transition chain using a graph of converters and BFS search
-                List<ClassPair<?, ?>> transitions = searchTransitionChain(sourceType, targetType);
+        return plan;
+    }
 
-                if (transitions.isEmpty()) {
-                    throw new ConverterNotFound(classPair);
-                }
+    /**
+     * Resolves how to convert between the given types: the identity if the normalized target type is the
+     * source type, then a direct converter, a converter between inherited types, and finally a chain of
+     * converters found in the type graph.
+     */
+    @SuppressWarnings({"unchecked"})
+    private ConversionPlan resolvePlan(Class<?> sourceType, Class<?> targetType) {
+        ClassPair<?, ?> classPair = new ClassPair<>(sourceType, normalizer.normalize(targetType));
 
-                LOGGER.info("Conversion transitions: {}", transitions);
+        if (classPair.isTheSame()) {
+            return IDENTITY;
+        }
 
-                Object intermediate = source;
+        // Try to find a direct converter
+        GenericConverter<?, ?> converter = getConverter(classPair);
 
-                for (ClassPair<?, ?> transition : transitions) {
-                    ClassPair<Object, Object> pair = (ClassPair<Object, Object>) transition;
-                    intermediate = getConverter(pair).convert(intermediate, pair.classB());
-                }
+        if (converter == null) {
+            // Attempt to find a converter using inherited types
+            ClassPair<?, ?> candidate = searchPossibleCandidate(sourceType, targetType);
 
-                converted = (R) intermediate;
-            } else {
-                LOGGER.info("Converter: {}", classPair);
-                converted = converter.convert(source, targetType);
+            if (candidate != null) {
+                classPair = candidate;
+                converter = getConverter(classPair);
             }
+        }
 
+        if (converter != null) {
+            LOGGER.debug("Converter: {}", classPair);
+            return new DirectPlan((GenericConverter<Object, Object>) converter);
         }
 
-        return converted;
+        // Search for the cheapest transition chain through the registered converters
+        List<ClassPair<?, ?>> transitions = searchTransitionChain(sourceType, targetType);
+        List<ChainStep>       steps       = new ArrayList<>(transitions.size());
+
+        for (ClassPair<?, ?> transition : transitions) {
+            ClassPair<Object, Object>        pair         = (ClassPair<Object, Object>) transition;
+            GenericConverter<Object, Object> intermediate = getConverter(pair);
+
+            // a converter removed concurrently leaves a gap in the route
+            if (intermediate == null) {
+                steps.clear();
+                break;
+            }
+
+            steps.add(new ChainStep(intermediate, pair.classB()));
+        }
+
+        if (steps.isEmpty()) {
+            LOGGER.debug("No converter: {}", classPair);
+            return new MissingPlan(classPair);
+        }
+
+        LOGGER.debug("Conversion transitions: {} (cost: {})", transitions,
+                     getRoutes().getCost(sourceType, targetType));
+
+        return new ChainPlan(List.copyOf(steps));
+    }
+
+    /**
+     * Discards all resolved plans and routes; called after the registered converters changed.
+     */
+    private void invalidate() {
+        // a route table being computed may predate the change, so wait for it before discarding
+        synchronized (this) {
+            routes = null;
+        }
+        plans = createPlanCache();
+    }
+
+    /**
+     * Returns the route table of the registered converters, computing it on first use.
+     */
+    private ConversionRoutes getRoutes() {
+        ConversionRoutes routes = this.routes;
+
+        if (routes == null) {
+            synchronized (this) {
+                routes = this.routes;
+                if (routes == null) {
+                    this.routes = routes = new ConversionRoutes(converters);
+                }
+            }
+        }
+
+        return routes;
+    }
+
+    private static ClassValue<Map<Class<?>, ConversionPlan>> createPlanCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Map<Class<?>, ConversionPlan> computeValue(Class<?> sourceType) {
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 
     /**
@@ -209,10 +351,10 @@ public class StandardConversion implements Conversion {
 
     /**
      * Searches for a chain of {@link GenericConverter}s that can transition from the source type
-     * {@code sourceType} to the target type {@code targetType}. This method uses a path-finding
-     * algorithm on a graph of types to determine a sequence of intermediate types connecting
-     * the source and target. For each consecutive pair of types in the found path, it retrieves
-     * a corresponding {@link GenericConverter} and adds it to the conversion chain.
+     * {@code sourceType} to the target type {@code targetType}. The chain is read from a precomputed
+     * table of the cheapest routes between all registered types, where the weight of each step is the
+     * {@link GenericConverter#getCost(ClassPair) cost} of its converter. Among equally cheap chains the
+     * shortest one is returned.
      *
      * @param <S> the initial source type
      * @param <T> the final target type
@@ -223,15 +365,55 @@ public class StandardConversion implements Conversion {
      */
     @Override
     public <S, T> List<ClassPair<?, ?>> searchTransitionChain(Class<S> sourceType, Class<T> targetType) {
-        List<Class<?>>        typePath = pathFinder.findPath(graph, sourceType, targetType);
-        List<ClassPair<?, ?>> chain    = new ArrayList<>();
+        return getRoutes().getRoute(sourceType, targetType);
+    }
 
-        if (!typePath.isEmpty()) {
-            for (Edge<Class<?>> edge : Graph.toEdges(typePath)) {
-                chain.add(new ClassPair<>(edge.nodeA(), edge.nodeB()));
+    private static final ConversionPlan IDENTITY = (source, targetType) -> source;
+
+    /**
+     * A resolved way of converting a source type to a target type.
+     */
+    @FunctionalInterface
+    private interface ConversionPlan {
+
+        Object convert(Object source, Class<Object> targetType);
+
+    }
+
+    private record DirectPlan(GenericConverter<Object, Object> converter) implements ConversionPlan {
+
+        @Override
+        public Object convert(Object source, Class<Object> targetType) {
+            return converter.convert(source, targetType);
+        }
+
+    }
+
+    private record ChainStep(GenericConverter<Object, Object> converter, Class<Object> targetType) {
+    }
+
+    private record ChainPlan(List<ChainStep> steps) implements ConversionPlan {
+
+        @Override
+        public Object convert(Object source, Class<Object> targetType) {
+            Object intermediate = source;
+
+            for (ChainStep step : steps) {
+                intermediate = step.converter().convert(intermediate, step.targetType());
             }
+
+            return intermediate;
         }
 
-        return chain;
     }
+
+    private record MissingPlan(ClassPair<?, ?> classPair) implements ConversionPlan {
+
+        @Override
+        public Object convert(Object source, Class<Object> targetType) {
+            throw new ConverterNotFound(classPair);
+        }
+
+    }
+
 }
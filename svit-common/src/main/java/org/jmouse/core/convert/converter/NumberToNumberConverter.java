@@ -36,11 +36,30 @@ import java.util.Set;
  *   <li>Byte/byte</li>
  * </ul>
  *
+ * <p>Conversions that keep every value exact, such as boxing or widening {@code int} to {@code long}, cost
+ * {@link #LOSSLESS_COST}. Narrowing conversions, such as {@code double} to {@code int}, may lose information
+ * and cost {@link #LOSSY_COST}, so conversion chains avoid them whenever a lossless route exists.
+ *
  * @see GenericConverter
  * @see ConverterNotFound
  */
 public class NumberToNumberConverter implements GenericConverter<Number, Number> {
 
+    private static final Map<Class<?>, Set<Class<?>>> LOSSLESS = Map.of(
+            Byte.class, Set.of(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+                               BigInteger.class, BigDecimal.class),
+            Short.class, Set.of(Short.class, Integer.class, Long.class, Float.class, Double.class,
+                                BigInteger.class, BigDecimal.class),
+            Integer.class, Set.of(Integer.class, Long.class, Double.class, BigInteger.class, BigDecimal.class),
+            Long.class, Set.of(Long.class, BigInteger.class, BigDecimal.class),
+            // BigDecimal.valueOf(double) rounds to the shortest decimal string, so floating point sources
+            // reach BigDecimal through a lossy conversion
+            Float.class, Set.of(Float.class, Double.class),
+            Double.class, Set.of(Double.class),
+            BigInteger.class, Set.of(BigInteger.class, BigDecimal.class),
+            BigDecimal.class, Set.of(BigDecimal.class)
+    );
+
     private final Map<Class<? extends Number>, Converter<Number, Number>> converters = new HashMap<>();
 
     /**
@@ -57,8 +76,8 @@ public class NumberToNumberConverter implements GenericConverter<Number, Number>
         converters.put(double.class, Number::doubleValue);
         converters.put(Float.class, Number::floatValue);
         converters.put(float.class, Number::floatValue);
-        converters.put(BigDecimal.class, number -> BigDecimal.valueOf(number.doubleValue()));
-        converters.put(BigInteger.class, number -> BigInteger.valueOf(number.longValue()));
+        converters.put(BigDecimal.class, NumberToNumberConverter::toBigDecimal);
+        converters.put(BigInteger.class, NumberToNumberConverter::toBigInteger);
         converters.put(Short.class, Number::shortValue);
         converters.put(short.class, Number::shortValue);
         converters.put(Byte.class, Number::byteValue);
@@ -108,4 +127,56 @@ public class NumberToNumberConverter implements GenericConverter<Number, Number>
 
         return supported;
     }
+
+    /**
+     * Returns {@link #LOSSLESS_COST} for boxing, unboxing and widening conversions that represent every
+     * source value exactly, and {@link #LOSSY_COST} for all other conversions.
+     *
+     * @param classPair the source and target number types
+     * @return the cost of the conversion
+     */
+    @Override
+    public int getCost(ClassPair<?, ?> classPair) {
+        Class<?>      sourceType = TypeMap.WRAPPERS.getOrDefault(classPair.classA(), classPair.classA());
+        Class<?>      targetType = TypeMap.WRAPPERS.getOrDefault(classPair.classB(), classPair.classB());
+        Set<Class<?>> lossless   = LOSSLESS.get(sourceType);
+
+        return lossless != null && lossless.contains(targetType) ? LOSSLESS_COST : LOSSY_COST;
+    }
+
+    /**
+     * Converts to {@link BigDecimal} without going through {@code double} for integral sources, so that
+     * every conversion charged {@link #LOSSLESS_COST} is exact. Floating point sources are rounded to their
+     * shortest decimal representation and charged {@link #LOSSY_COST}.
+     */
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal decimal) {
+            return decimal;
+        }
+
+        if (number instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+
+        if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    /**
+     * Converts to {@link BigInteger}, keeping big sources beyond the {@code long} range intact.
+     */
+    private static BigInteger toBigInteger(Number number) {
+        if (number instanceof BigInteger integer) {
+            return integer;
+        }
+
+        if (number instanceof BigDecimal decimal) {
+            return decimal.toBigInteger();
+        }
+
+        return BigInteger.valueOf(number.longValue());
+    }
 }
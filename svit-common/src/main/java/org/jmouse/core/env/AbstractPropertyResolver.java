@@ -43,8 +43,8 @@ abstract public class AbstractPropertyResolver implements PropertyResolver {
     /**
      * Resolves the raw property value for the specified property name.
      * <p>
-     * Iterates through all registered {@link PropertySource}s in the registry to find the first source
-     * that contains the property.
+     * The value is read from the registry's {@link PropertySnapshot}, which holds the value of the first
+     * registered {@link PropertySource} containing the property in priority order.
      * </p>
      *
      * @param name the name of the property to resolve
@@ -52,15 +52,6 @@ abstract public class AbstractPropertyResolver implements PropertyResolver {
      */
     @Override
     public Object getRawProperty(String name) {
-        Object value = null;
-
-        for (PropertySource<?> source : registry.getPropertySources()) {
-            if (source.containsProperty(name)) {
-                value = source.getProperty(name);
-                break;
-            }
-        }
-
-        return value;
+        return registry.getSnapshot().getValue(name);
     }
 }
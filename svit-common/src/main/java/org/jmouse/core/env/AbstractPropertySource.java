@@ -2,22 +2,26 @@ package org.jmouse.core.env;
 
 import org.jmouse.util.Ordered;
 
+import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Abstract base class for {@link PropertySource} implementations.
  * <p>
  * This class provides common functionality for property sources, including storage for the source and name,
- * as well as ordering support through the {@link Ordered} interface.
+ * as well as ordering support through the {@link Ordered} interface. Changing the order runs the
+ * {@linkplain #addChangeListener(Runnable) change listeners}.
  * </p>
  *
  * @param <T> the type of the underlying property source
  */
 abstract public class AbstractPropertySource<T> implements PropertySource<T>, Ordered {
 
-    protected T      source;
-    protected String name;
-    protected int    order;
+    protected final Collection<Runnable> listeners = new CopyOnWriteArrayList<>();
+    protected       T                    source;
+    protected       String               name;
+    protected       int                  order;
 
     /**
      * Constructs a new {@link AbstractPropertySource} with the specified name and source.
@@ -71,6 +75,24 @@ abstract public class AbstractPropertySource<T> implements PropertySource<T>, Or
     @Override
     public void setOrder(int order) {
         this.order = order;
+        fireChange();
+    }
+
+    /**
+     * Adds a listener run after the properties or the order of this source changed.
+     *
+     * @param listener the listener to run
+     */
+    @Override
+    public void addChangeListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Runs the change listeners; subclasses call it after their properties changed.
+     */
+    protected void fireChange() {
+        listeners.forEach(Runnable::run);
     }
 
     /**
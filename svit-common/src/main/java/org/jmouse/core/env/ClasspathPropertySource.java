@@ -4,6 +4,8 @@ import org.jmouse.core.io.ClasspathResourceLoader;
 import org.jmouse.core.io.Resource;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
@@ -28,7 +30,11 @@ public class ClasspathPropertySource extends JavaPropertiesPropertySource {
         } catch (IOException ignore) {
         }
 
-        this.source = (Map) properties;
+        Map<String, Object> values = new HashMap<>();
+        properties.forEach((key, value) -> values.put(key.toString(), value));
+
+        // loaded once, the properties never change afterwards
+        this.source = Collections.unmodifiableMap(values);
     }
 
 }
@@ -3,12 +3,26 @@ package org.jmouse.core.env;
 import org.jmouse.util.Sorter;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The default {@link PropertySourceRegistry}.
+ * <p>
+ * Registering a source and every change an {@linkplain PropertySource#isObservable() observable} source reports
+ * increment the registry version. Sorting the sources and merging them into a {@link PropertySnapshot} happen
+ * on the first read after a change; the result is published through a volatile field, so reads take no lock
+ * and only compare the version. Change listeners take no lock either, since sources may report changes while
+ * holding their own locks.
+ * </p>
+ */
 public class DefaultPropertySourceRegistry implements PropertySourceRegistry {
 
-    private final Map<String, PropertySource<?>> sources = new HashMap<>();
+    private final    Map<String, PropertySource<?>> sources = new ConcurrentHashMap<>();
+    private final    AtomicLong                     version = new AtomicLong();
+    private volatile State                          state   = new State(-1, List.of(), null);
 
     /**
      * Checks a property source exist by name.
@@ -32,6 +46,8 @@ public class DefaultPropertySourceRegistry implements PropertySourceRegistry {
     @Override
     public void addPropertySource(PropertySource<?> propertySource) {
         sources.put(propertySource.getName(), propertySource);
+        propertySource.addChangeListener(version::incrementAndGet);
+        version.incrementAndGet();
     }
 
     /**
@@ -39,7 +55,41 @@ public class DefaultPropertySourceRegistry implements PropertySourceRegistry {
      */
     @Override
     public Collection<PropertySource<?>> getPropertySources() {
-        return sources.values().stream().sorted(Sorter.PRIORITY_COMPARATOR).toList();
+        return getState().sources();
+    }
+
+    /**
+     * Returns the merged properties of all registered sources, building them on first request.
+     */
+    @Override
+    public PropertySnapshot getSnapshot() {
+        return getState().snapshot();
+    }
+
+    private State getState() {
+        State state = this.state;
+
+        if (state.version() != version.get()) {
+            synchronized (this) {
+                state = this.state;
+                if (state.version() != version.get()) {
+                    // read the version first, a change during the build then triggers the next rebuild
+                    long                    current = version.get();
+                    List<PropertySource<?>> ordered = sources.values().stream()
+                            .sorted(Sorter.PRIORITY_COMPARATOR).toList();
+
+                    this.state = state = new State(current, ordered, PropertySnapshot.create(current, ordered));
+                }
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * The sources in priority order and their merged properties, as of a registry version.
+     */
+    private record State(long version, List<PropertySource<?>> sources, PropertySnapshot snapshot) {
     }
 
 }
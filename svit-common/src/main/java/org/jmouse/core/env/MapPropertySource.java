@@ -8,6 +8,10 @@ import java.util.Map;
  * This class provides methods to access properties stored in the map by their keys and supports operations
  * like checking property existence and retrieving all property names.
  * </p>
+ * <p>
+ * {@link #getSource()} returns a view of the map that reports every modification to the change listeners,
+ * so registries can cache the properties. Modifying the original map directly goes unnoticed.
+ * </p>
  */
 public class MapPropertySource extends AbstractPropertySource<Map<String, Object>> {
 
@@ -19,6 +23,17 @@ public class MapPropertySource extends AbstractPropertySource<Map<String, Object
      */
     public MapPropertySource(String name, Map<String, Object> source) {
         super(name, source);
+        this.source = source == null ? null : new ObservableMap<>(source, listeners);
+    }
+
+    /**
+     * Map properties are only modified through the {@link #getSource() observed view} of the map.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isObservable() {
+        return true;
     }
 
     /**
@@ -0,0 +1,90 @@
+package org.jmouse.core.env;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A map view that runs the given listeners after every modification of the underlying map.
+ * <p>
+ * Modifications go through {@link #put(Object, Object)}, {@link #remove(Object)}, {@link #putAll(Map)} and
+ * {@link #clear()}, or through the default {@link Map} methods built on them. The key, value and entry views
+ * are read-only, so no modification bypasses the listeners.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class ObservableMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V>            delegate;
+    private final Collection<Runnable> listeners;
+
+    ObservableMap(Map<K, V> delegate, Collection<Runnable> listeners) {
+        this.delegate = delegate;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(delegate).entrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(delegate.keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(delegate.values());
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V previous = delegate.put(key, value);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V previous = delegate.remove(key);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        delegate.putAll(map);
+        changed();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        changed();
+    }
+
+    private void changed() {
+        listeners.forEach(Runnable::run);
+    }
+
+}
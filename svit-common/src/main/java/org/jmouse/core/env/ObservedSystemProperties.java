@@ -0,0 +1,158 @@
+package org.jmouse.core.env;
+
+import java.io.Serial;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * System properties that run the listeners of every {@link SystemPropertiesPropertySource} after each
+ * modification, including {@link System#setProperty(String, String)} and {@link System#clearProperty(String)}.
+ * <p>
+ * {@link #install()} replaces the system properties with an observed copy once per JVM. Listeners are held
+ * weakly, so a discarded property source does not stay reachable through the system properties. They may run
+ * while the properties are locked, e.g. inside {@link Properties#setProperty(String, String)}, so they must
+ * only record the change and never block.
+ * </p>
+ */
+final class ObservedSystemProperties extends Properties {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final List<WeakReference<Collection<Runnable>>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private ObservedSystemProperties() {
+    }
+
+    /**
+     * Installs observed system properties unless already installed.
+     *
+     * @return the current system properties
+     */
+    static synchronized Properties install() {
+        Properties properties = System.getProperties();
+
+        if (!(properties instanceof ObservedSystemProperties)) {
+            Properties observed = new ObservedSystemProperties();
+            observed.putAll(properties);
+            System.setProperties(observed);
+            properties = observed;
+        }
+
+        return properties;
+    }
+
+    /**
+     * Registers the change listeners of a property source.
+     *
+     * @param listeners the listeners, held weakly
+     */
+    static void addListeners(Collection<Runnable> listeners) {
+        LISTENERS.removeIf(reference -> reference.get() == null);
+        LISTENERS.add(new WeakReference<>(listeners));
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        Object previous = super.put(key, value);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = super.remove(key);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        boolean removed = super.remove(key, value);
+        changed();
+        return removed;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> map) {
+        super.putAll(map);
+        changed();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        changed();
+    }
+
+    @Override
+    public Object putIfAbsent(Object key, Object value) {
+        Object previous = super.putIfAbsent(key, value);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public boolean replace(Object key, Object oldValue, Object newValue) {
+        boolean replaced = super.replace(key, oldValue, newValue);
+        changed();
+        return replaced;
+    }
+
+    @Override
+    public Object replace(Object key, Object value) {
+        Object previous = super.replace(key, value);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+        super.replaceAll(function);
+        changed();
+    }
+
+    @Override
+    public Object computeIfAbsent(Object key, Function<? super Object, ?> function) {
+        Object value = super.computeIfAbsent(key, function);
+        changed();
+        return value;
+    }
+
+    @Override
+    public Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> function) {
+        Object value = super.computeIfPresent(key, function);
+        changed();
+        return value;
+    }
+
+    @Override
+    public Object compute(Object key, BiFunction<? super Object, ? super Object, ?> function) {
+        Object value = super.compute(key, function);
+        changed();
+        return value;
+    }
+
+    @Override
+    public Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> function) {
+        Object merged = super.merge(key, value, function);
+        changed();
+        return merged;
+    }
+
+    private void changed() {
+        for (WeakReference<Collection<Runnable>> reference : LISTENERS) {
+            Collection<Runnable> listeners = reference.get();
+            if (listeners != null) {
+                listeners.forEach(Runnable::run);
+            }
+        }
+    }
+
+}
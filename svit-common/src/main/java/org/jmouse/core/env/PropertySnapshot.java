@@ -0,0 +1,183 @@
+package org.jmouse.core.env;
+
+import java.util.*;
+
+/**
+ * An immutable view of all properties of a {@link PropertySourceRegistry}, merged by priority.
+ * <p>
+ * A snapshot maps every property name of the {@linkplain PropertySource#isObservable() observable} sources to
+ * the value of the highest-priority one that contains it, together with that source. Sources that do not
+ * report their changes are never copied: they are kept in priority order and queried on every lookup, but
+ * only those ranked above the source of the merged value. With observable sources only, resolving a property
+ * is a single map lookup that involves no sorting and no source traversal. Each snapshot carries the registry
+ * version it was built from.
+ * </p>
+ * <p>
+ * Snapshots are safe to share between threads. The registry builds a new snapshot after a source was added
+ * or an observable source reported a change of its properties or its order.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * PropertySnapshot snapshot = registry.getSnapshot();
+ *
+ * Object            timeout = snapshot.getValue("server.timeout");
+ * PropertySource<?> origin  = snapshot.getEntry("server.timeout").source();
+ * }</pre>
+ */
+public final class PropertySnapshot {
+
+    private final long                version;
+    private final Map<String, Ranked> entries;
+    private final PropertySource<?>[] live;
+    private final int[]               ranks;
+
+    private PropertySnapshot(long version, Map<String, Ranked> entries, PropertySource<?>[] live, int[] ranks) {
+        this.version = version;
+        this.entries = entries;
+        this.live = live;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Merges the properties of the given observable sources, where earlier sources take precedence,
+     * and keeps the other sources for lookups.
+     *
+     * @param version the version of the registry the sources belong to
+     * @param sources the property sources ordered by priority
+     * @return the snapshot
+     */
+    public static PropertySnapshot create(long version, Collection<PropertySource<?>> sources) {
+        Map<String, Ranked>     entries = new HashMap<>();
+        List<PropertySource<?>> live    = new ArrayList<>();
+        int[]                   ranks   = new int[sources.size()];
+        int                     rank    = 0;
+
+        for (PropertySource<?> source : sources) {
+            if (source.isObservable()) {
+                for (String name : source.getPropertyNames()) {
+                    if (!entries.containsKey(name) && source.containsProperty(name)) {
+                        entries.put(name, new Ranked(new Entry(source.getProperty(name), source), rank));
+                    }
+                }
+            } else {
+                ranks[live.size()] = rank;
+                live.add(source);
+            }
+
+            rank++;
+        }
+
+        return new PropertySnapshot(
+                version, entries, live.toArray(PropertySource<?>[]::new), Arrays.copyOf(ranks, live.size()));
+    }
+
+    /**
+     * Returns the version of the registry this snapshot was built from.
+     *
+     * @return the registry version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the resolved property together with its source.
+     *
+     * @param name the property name
+     * @return the entry, or {@code null} if no source contains the property
+     */
+    public Entry getEntry(String name) {
+        Ranked            ranked = entries.get(name);
+        PropertySource<?> source = findLive(name, ranked);
+
+        if (source != null) {
+            return new Entry(source.getProperty(name), source);
+        }
+
+        return ranked == null ? null : ranked.entry();
+    }
+
+    /**
+     * Returns the value of the property from the highest-priority source containing it.
+     *
+     * @param name the property name
+     * @return the value, or {@code null} if no source contains the property
+     */
+    public Object getValue(String name) {
+        Ranked            ranked = entries.get(name);
+        PropertySource<?> source = findLive(name, ranked);
+
+        if (source != null) {
+            return source.getProperty(name);
+        }
+
+        return ranked == null ? null : ranked.entry().value();
+    }
+
+    /**
+     * Checks whether any source contains the property.
+     *
+     * @param name the property name
+     * @return {@code true} if the property is present
+     */
+    public boolean containsProperty(String name) {
+        return entries.containsKey(name) || findLive(name, null) != null;
+    }
+
+    /**
+     * Returns the names of all properties, including the current names of the live sources.
+     *
+     * @return an unmodifiable set of property names
+     */
+    public Set<String> getPropertyNames() {
+        if (live.length == 0) {
+            return Collections.unmodifiableSet(entries.keySet());
+        }
+
+        Set<String> names = new HashSet<>(entries.keySet());
+
+        for (PropertySource<?> source : live) {
+            names.addAll(Arrays.asList(source.getPropertyNames()));
+        }
+
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Finds the first live source containing the property that ranks above the merged entry.
+     */
+    private PropertySource<?> findLive(String name, Ranked ranked) {
+        int limit = ranked == null ? Integer.MAX_VALUE : ranked.rank();
+
+        for (int i = 0; i < live.length && ranks[i] < limit; i++) {
+            if (live[i].containsProperty(name)) {
+                return live[i];
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertySnapshot[version=%d, properties=%d, live sources=%d]".formatted(
+                version, entries.size(), live.length);
+    }
+
+    /**
+     * A resolved property.
+     *
+     * @param value  the property value
+     * @param source the property source the value was taken from
+     */
+    public record Entry(Object value, PropertySource<?> source) {
+    }
+
+    /**
+     * A merged entry with the position of its source among all sources.
+     */
+    private record Ranked(Entry entry, int rank) {
+    }
+
+}
@@ -49,4 +49,28 @@ public interface PropertySource<T> {
      * @return an array of all property names
      */
     String[] getPropertyNames();
+
+    /**
+     * Checks whether this source reports every change of its properties or its order to the listeners added
+     * through {@link #addChangeListener(Runnable)}.
+     * <p>
+     * Only observable sources are copied into a {@link PropertySnapshot}; all other sources are queried on
+     * every lookup, so changes to their data stay visible.
+     * </p>
+     *
+     * @return {@code true} if changes are reported, {@code false} by default
+     */
+    default boolean isObservable() {
+        return false;
+    }
+
+    /**
+     * Adds a listener run after the properties or the order of this source changed. Sources that are not
+     * {@linkplain #isObservable() observable} ignore it.
+     *
+     * @param listener the listener to run
+     */
+    default void addChangeListener(Runnable listener) {
+        // not observable
+    }
 }
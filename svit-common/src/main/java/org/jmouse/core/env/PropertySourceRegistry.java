@@ -4,6 +4,11 @@ import java.util.Collection;
 
 /**
  * Manages and registers property sources.
+ * <p>
+ * Property lookups go through a {@link PropertySnapshot} of all sources. The snapshot copies only
+ * {@linkplain PropertySource#isObservable() observable} sources, whose changes make the registry build a new
+ * one, and queries the others on every lookup, so every change is visible right away.
+ * </p>
  */
 public interface PropertySourceRegistry {
 
@@ -27,4 +32,10 @@ public interface PropertySourceRegistry {
      */
     Collection<PropertySource<?>> getPropertySources();
 
+    /**
+     * Returns the merged properties of all registered sources. The snapshot is rebuilt after a source was
+     * added or an observable source reported a change.
+     */
+    PropertySnapshot getSnapshot();
+
 }
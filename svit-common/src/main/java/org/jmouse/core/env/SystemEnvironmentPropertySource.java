@@ -1,6 +1,6 @@
 package org.jmouse.core.env;
 
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A {@link PropertySource} implementation that uses system environment variables as the underlying property source.
@@ -17,7 +17,7 @@ public class SystemEnvironmentPropertySource extends MapPropertySource {
      * @param name the name of the property source
      */
     public SystemEnvironmentPropertySource(String name) {
-        super(name, new HashMap<>(System.getenv()));
+        super(name, Map.copyOf(System.getenv()));
         setOrder(Integer.MAX_VALUE);
     }
 
@@ -6,6 +6,10 @@ package org.jmouse.core.env;
  * This class extends {@link JavaPropertiesPropertySource}, initializing the property source with
  * {@link System#getProperties()} and assigning a default order value for priority.
  * </p>
+ * <p>
+ * To report changes made through {@link System#setProperty(String, String)} as well, the system properties
+ * are replaced once per JVM with an observed copy.
+ * </p>
  */
 public class SystemPropertiesPropertySource extends JavaPropertiesPropertySource {
 
@@ -15,7 +19,8 @@ public class SystemPropertiesPropertySource extends JavaPropertiesPropertySource
      * @param name the name of the property source
      */
     public SystemPropertiesPropertySource(String name) {
-        super(name, System.getProperties());
+        super(name, ObservedSystemProperties.install());
         setOrder(Integer.MAX_VALUE >> 2); // Assigns a default order with lower priority
+        ObservedSystemProperties.addListeners(listeners);
     }
 }
@@ -5,7 +5,8 @@ import static org.jmouse.util.Files.extractProtocol;
 
 abstract public class AbstractResourceLoader implements ResourceLoader {
 
-    private final ClassLoader classLoader;
+    private final    ClassLoader classLoader;
+    private volatile boolean     parallel = true;
 
     public AbstractResourceLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
@@ -23,6 +24,26 @@ abstract public class AbstractResourceLoader implements ResourceLoader {
         return classLoader;
     }
 
+    /**
+     * Enables or disables parallel loading. Loaders reading several classpath roots or directory trees fan out
+     * onto the common {@link java.util.concurrent.ForkJoinPool} when enabled and merge the results in a
+     * deterministic order.
+     *
+     * @param parallel {@code false} to load everything on the calling thread
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Checks whether parallel loading is enabled.
+     *
+     * @return {@code true} if parallel loading is enabled
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
     public void ensureSupportedProtocol(String location) {
         if (!supports(extractProtocol(location, Resource.UNKNOWN_PROTOCOL))) {
             throw new ResourceLoaderException(
@@ -31,5 +52,4 @@ abstract public class AbstractResourceLoader implements ResourceLoader {
         }
     }
 
-
 }
@@ -5,12 +5,13 @@ import org.jmouse.util.Files;
 import org.jmouse.util.Jars;
 import org.jmouse.util.JavaIO;
 
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A {@link ResourceLoader} implementation for loading resources from the classpath.
@@ -18,6 +19,11 @@ import java.util.List;
  * This loader handles both JAR-based and file-based resources, delegating resource loading
  * to specialized loaders like {@link JarURLResourceLoader} and {@link FileSystemResourceLoader}.
  * </p>
+ * <p>
+ * In {@link #isParallel() parallel} mode each classpath root containing the location is read by its own task,
+ * and directory roots are walked in parallel as well. Resources are returned grouped by root, in the order
+ * the class loader reports the roots.
+ * </p>
  */
 public class ClasspathResourceLoader extends AbstractResourceLoader {
 
@@ -31,38 +37,40 @@ public class ClasspathResourceLoader extends AbstractResourceLoader {
      */
     @Override
     public Collection<Resource> loadResources(String location, Matcher<String> matcher) {
-        Collection<Resource> resources = new ArrayList<>();
-
         ensureSupportedProtocol(location);
 
-        location = Files.removeProtocol(location);
+        String path = Files.removeProtocol(location);
 
         try {
-            Enumeration<URL> enumeration = getClassLoader().getResources(location);
-
-            while (enumeration.hasMoreElements()) {
-                URL url = enumeration.nextElement();
-
-                switch (url.getProtocol()) {
-                    case Resource.JAR_PROTOCOL:
-                        resources.addAll(new JarURLResourceLoader(getClassLoader())
-                                                 .loadResources(location, url, matcher));
-                        break;
-                    case Resource.FILE_PROTOCOL:
-                        resources.addAll(new FileSystemResourceLoader()
-                                                 .loadResources(location, Paths.get(url.toURI()), matcher));
-                        break;
-                    default:
-                        throw new ResourceLoaderException("Protocol '%s' not supported.".formatted(url.getProtocol()));
-                }
+            List<URL> roots = Collections.list(getClassLoader().getResources(path));
 
-            }
+            // one task per classpath root, jar or directory; toList() keeps the class loader order
+            Stream<URL> stream = isParallel() && roots.size() > 1 ? roots.parallelStream() : roots.stream();
 
+            return stream.map(root -> loadResources(path, root, matcher)).flatMap(Collection::stream).toList();
         } catch (Exception e) {
-            throw new ResourceException("Failed to read resources from '%s' files".formatted(location), e);
+            throw new ResourceException("Failed to read resources from '%s' files".formatted(path), e);
         }
+    }
 
-        return resources;
+    /**
+     * Loads matching resources from a single classpath root, delegating to the loader of its protocol.
+     */
+    private Collection<Resource> loadResources(String location, URL root, Matcher<String> matcher) {
+        switch (root.getProtocol()) {
+            case Resource.JAR_PROTOCOL:
+                return new JarURLResourceLoader(getClassLoader()).loadResources(location, root, matcher);
+            case Resource.FILE_PROTOCOL:
+                FileSystemResourceLoader loader = new FileSystemResourceLoader();
+                loader.setParallel(isParallel());
+                try {
+                    return loader.loadResources(location, Paths.get(root.toURI()), matcher);
+                } catch (URISyntaxException exception) {
+                    throw new ResourceLoaderException("Invalid classpath root '%s'".formatted(root), exception);
+                }
+            default:
+                throw new ResourceLoaderException("Protocol '%s' not supported.".formatted(root.getProtocol()));
+        }
     }
 
     /**
@@ -16,11 +16,17 @@ import static org.jmouse.core.io.Resource.LOCAL_PROTOCOL;
  * This implementation allows dynamic registration and removal of resource loaders. If no specific loader
  * supports a protocol, the primary {@link FileSystemResourceLoader} is used as the fallback.
  * </p>
+ * <p>
+ * Resource lookups fan out per jar and per directory subtree by default, see
+ * {@link AbstractResourceLoader#setParallel(boolean)}. Use {@link #setParallel(boolean)} to switch all
+ * registered loaders back to single-threaded loading, e.g. in constrained environments.
+ * </p>
  */
 public class CompositeResourceLoader implements PatternMatcherResourceLoader, ResourceLoaderRegistry {
 
-    private final List<ResourceLoader> loaders = new ArrayList<>();
-    private final ResourceLoader       primary = new FileSystemResourceLoader();
+    private final    List<ResourceLoader>     loaders  = new ArrayList<>();
+    private final    FileSystemResourceLoader primary  = new FileSystemResourceLoader();
+    private volatile boolean                  parallel = true;
 
     public CompositeResourceLoader() {
         addResourceLoader(new FileSystemResourceLoader());
@@ -37,6 +43,7 @@ public class CompositeResourceLoader implements PatternMatcherResourceLoader, Re
      */
     @Override
     public void setResourceLoader(ResourceLoader resourceLoader) {
+        applyParallel(resourceLoader);
         this.loaders.clear();
         this.loaders.add(resourceLoader);
     }
@@ -113,6 +120,7 @@ public class CompositeResourceLoader implements PatternMatcherResourceLoader, Re
      */
     @Override
     public void addResourceLoader(ResourceLoader resourceLoader) {
+        applyParallel(resourceLoader);
         this.loaders.add(resourceLoader);
     }
 
@@ -137,6 +145,36 @@ public class CompositeResourceLoader implements PatternMatcherResourceLoader, Re
         return getRequiredResourceLoader(location).loadResources(location, matcher);
     }
 
+    /**
+     * Enables or disables parallel loading for the fallback loader and every registered
+     * {@link AbstractResourceLoader}, including loaders registered later.
+     *
+     * @param parallel {@code false} to load everything on the calling thread
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+        this.primary.setParallel(parallel);
+
+        for (ResourceLoader loader : loaders) {
+            applyParallel(loader);
+        }
+    }
+
+    /**
+     * Checks whether parallel loading is enabled.
+     *
+     * @return {@code true} if parallel loading is enabled
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private void applyParallel(ResourceLoader resourceLoader) {
+        if (resourceLoader instanceof AbstractResourceLoader loader) {
+            loader.setParallel(parallel);
+        }
+    }
+
     /**
      * Returns a list of all supported protocols across registered loaders.
      */
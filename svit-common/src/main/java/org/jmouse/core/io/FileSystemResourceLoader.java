@@ -3,13 +3,18 @@ package org.jmouse.core.io;
 import org.jmouse.core.matcher.Matcher;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Stream;
 
 import static org.jmouse.util.Files.*;
@@ -20,6 +25,11 @@ import static org.jmouse.util.Files.*;
  * This loader supports scanning directories and loading files based on specified matchers and protocols.
  * It provides efficient resource handling using Java NIO.
  * </p>
+ * <p>
+ * In {@link #isParallel() parallel} mode every subdirectory is walked by its own {@link RecursiveTask} on the
+ * common {@link ForkJoinPool}. Results are merged per directory: matching files ordered by name first, then
+ * the results of the subdirectories ordered by name, so the outcome does not depend on scheduling.
+ * </p>
  */
 public class FileSystemResourceLoader extends AbstractResourceLoader {
 
@@ -50,6 +60,14 @@ public class FileSystemResourceLoader extends AbstractResourceLoader {
         Collection<Resource> resources = new ArrayList<>();
         Matcher<Path>        filter    = p -> matcher.matches(normalizePath(p.toString(), SLASH));
 
+        if (isParallel() && Files.isDirectory(path)) {
+            try {
+                return ForkJoinPool.commonPool().invoke(new DirectoryTask(path, filter));
+            } catch (UncheckedIOException exception) {
+                throw new ResourceLoaderException("Failed to load resources from '%s'".formatted(location), exception);
+            }
+        }
+
         try (Stream<Path> stream = Files.walk(path)) {
             stream.filter(Files::isRegularFile)     // Only process regular files
                     .filter(filter::matches)        // Apply the matcher
@@ -104,4 +122,53 @@ public class FileSystemResourceLoader extends AbstractResourceLoader {
         return new FileSystemResource(path);
     }
 
+    /**
+     * Collects the matching files of one directory and forks a task per subdirectory.
+     */
+    @SuppressWarnings("serial") // ForkJoinTask is Serializable, but these tasks never leave the pool
+    private final class DirectoryTask extends RecursiveTask<List<Resource>> {
+
+        private final Path          directory;
+        private final Matcher<Path> filter;
+
+        private DirectoryTask(Path directory, Matcher<Path> filter) {
+            this.directory = directory;
+            this.filter = filter;
+        }
+
+        @Override
+        protected List<Resource> compute() {
+            List<Path> entries = new ArrayList<>();
+
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                stream.forEach(entries::add);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+
+            entries.sort(null);
+
+            List<Resource>      resources = new ArrayList<>();
+            List<DirectoryTask> subtasks  = new ArrayList<>();
+
+            for (Path entry : entries) {
+                // symbolic links to directories are not followed, the same as Files.walk(Path)
+                if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                    DirectoryTask subtask = new DirectoryTask(entry, filter);
+                    subtask.fork();
+                    subtasks.add(subtask);
+                } else if (Files.isRegularFile(entry) && filter.matches(entry)) {
+                    resources.add(createResource(entry));
+                }
+            }
+
+            for (DirectoryTask subtask : subtasks) {
+                resources.addAll(subtask.join());
+            }
+
+            return resources;
+        }
+
+    }
+
 }
@@ -9,10 +9,12 @@ import java.io.IOException;
 import java.net.*;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 /**
  * A {@link ResourceLoader} implementation for loading resources from JAR files.
@@ -20,6 +22,10 @@ import java.util.jar.JarFile;
  * This loader uses JAR-specific protocols and handles resource loading directly from JAR files.
  * It supports matching entries within the JAR and provides access to individual resources or collections of resources.
  * </p>
+ * <p>
+ * In {@link #isParallel() parallel} mode every jar containing the location is read by its own task. Resources
+ * are returned grouped by jar, in the order the class loader reports the jars.
+ * </p>
  */
 public class JarURLResourceLoader extends AbstractResourceLoader {
 
@@ -60,25 +66,19 @@ public class JarURLResourceLoader extends AbstractResourceLoader {
      */
     @Override
     public Collection<Resource> loadResources(String location, Matcher<String> matcher) {
-        Collection<Resource> resources = new ArrayList<>();
-
-        location = Files.removeProtocol(location);
+        String path = Files.removeProtocol(location);
 
         try {
-            Enumeration<URL> enumeration = getClassLoader().getResources(location);
+            List<URL> jars = Collections.list(getClassLoader().getResources(path)).stream()
+                    .filter(url -> supports(url.getProtocol())).toList();
 
-            while (enumeration.hasMoreElements()) {
-                URL url = enumeration.nextElement();
-                if (supports(url.getProtocol())) {
-                    resources.addAll(loadResources(location, url, matcher));
-                }
-            }
+            // one task per jar; toList() keeps the class loader order
+            Stream<URL> stream = isParallel() && jars.size() > 1 ? jars.parallelStream() : jars.stream();
 
+            return stream.map(jar -> loadResources(path, jar, matcher)).flatMap(Collection::stream).toList();
         } catch (IOException e) {
-            throw new ResourceException("Failed to read resources from '%s' files".formatted(location), e);
+            throw new ResourceException("Failed to read resources from '%s' files".formatted(path), e);
         }
-
-        return resources;
     }
 
     /**
@@ -96,6 +96,9 @@ public class JarURLResourceLoader extends AbstractResourceLoader {
         try {
             JarURLConnection connection = (JarURLConnection) jar.openConnection();
 
+            // a cached jar file is shared with concurrent readers, closing it would break them
+            connection.setUseCaches(false);
+
             try (JarFile file = connection.getJarFile()) {
 
                 Enumeration<JarEntry> entries = file.entries();
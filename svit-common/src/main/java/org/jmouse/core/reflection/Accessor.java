@@ -0,0 +1,116 @@
+package org.jmouse.core.reflection;
+
+import java.lang.reflect.Field;
+
+/**
+ * Fast read and write access to a field, resolved once into method handles.
+ * <p>
+ * An accessor is created on first request and cached per field, so repeated access performs no lookup, no
+ * {@link Field#setAccessible(boolean)} call and no access check. The typed methods such as
+ * {@link #getInt(Object)} and {@link #setInt(Object, int)} read and write primitive fields without boxing;
+ * they accept every field whose type converts to the requested type by widening, just like
+ * {@link Field#getInt(Object)}. Static fields ignore the target, which may be {@code null}.
+ * </p>
+ * <p>
+ * Failures to read or write, including type mismatches, are reported as {@link ReflectionException}.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Accessor counter = Accessor.forField(Statistics.class, "count");
+ *
+ * counter.setInt(statistics, counter.getInt(statistics) + 1);
+ * Object name = Accessor.forField(User.class, "name").get(user);
+ * }</pre>
+ *
+ * @see Invoker
+ * @see Reflections#getFieldValue(Object, Field)
+ */
+public interface Accessor {
+
+    /**
+     * Returns the cached accessor of the given field.
+     *
+     * @param field the field
+     * @return the accessor
+     * @throws ReflectionException if the field cannot be made accessible
+     */
+    static Accessor forField(Field field) {
+        return MemberHandles.getAccessor(field);
+    }
+
+    /**
+     * Returns the cached accessor of the named field of the given class or one of its super classes.
+     *
+     * @param type      the class declaring or inheriting the field
+     * @param fieldName the field name
+     * @return the accessor
+     * @throws ReflectionException if there is no such field or it cannot be made accessible
+     */
+    static Accessor forField(Class<?> type, String fieldName) {
+        return MemberHandles.getAccessor(type, fieldName);
+    }
+
+    /**
+     * Returns the accessed field.
+     *
+     * @return the field
+     */
+    Field getField();
+
+    /**
+     * Checks whether the field can only be read, which is the case for {@code static final} fields.
+     *
+     * @return {@code true} if {@code set} methods always fail
+     */
+    boolean isReadOnly();
+
+    /**
+     * Reads the field, boxing primitive values.
+     *
+     * @param target the object to read from, ignored for static fields
+     * @return the field value
+     */
+    Object get(Object target);
+
+    /**
+     * Writes the field, unboxing primitive values.
+     *
+     * @param target the object to write to, ignored for static fields
+     * @param value  the new value
+     */
+    void set(Object target, Object value);
+
+    boolean getBoolean(Object target);
+
+    byte getByte(Object target);
+
+    char getChar(Object target);
+
+    short getShort(Object target);
+
+    int getInt(Object target);
+
+    long getLong(Object target);
+
+    float getFloat(Object target);
+
+    double getDouble(Object target);
+
+    void setBoolean(Object target, boolean value);
+
+    void setByte(Object target, byte value);
+
+    void setChar(Object target, char value);
+
+    void setShort(Object target, short value);
+
+    void setInt(Object target, int value);
+
+    void setLong(Object target, long value);
+
+    void setFloat(Object target, float value);
+
+    void setDouble(Object target, double value);
+
+}
@@ -1,11 +1,16 @@
 package org.jmouse.core.reflection;
 
 import org.jmouse.core.matcher.Matcher;
+import org.jmouse.core.reflection.scanner.ClassHeader;
+import org.jmouse.core.reflection.scanner.ClassHeaderMatchers;
+import org.jmouse.core.reflection.scanner.ClassIndex;
+import org.jmouse.core.reflection.scanner.ClassScanIndex;
 import org.jmouse.core.reflection.scanner.ClassScanner;
 import org.jmouse.core.reflection.scanner.DefaultClassScanner;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.jmouse.core.reflection.ClassMatchers.*;
 
@@ -35,11 +40,11 @@ import static org.jmouse.core.reflection.ClassMatchers.*;
 public interface ClassFinder {
 
     /**
-     * A cache for storing previously scanned and filtered classes.
-     * Key: hash of base classes and matcher used in the search.
-     * Value: a collection of matched classes.
+     * Indexed scan results for previously scanned sets of base classes.
+     * Key: the base classes in the order given.
+     * Value: the index of all classes found in their packages.
      */
-    Map<Integer, Collection<Class<?>>> CACHE = new HashMap<>();
+    Map<List<Class<?>>, ClassScanIndex> INDEXES = new ConcurrentHashMap<>();
 
     /**
      * The default class scanner used for locating classes in the classpath.
@@ -74,13 +79,36 @@ public interface ClassFinder {
 
     /**
      * Finds all classes annotated with the given annotation.
+     * <p>
+     * If every base class lives in a classpath root indexed at build time (see {@link ClassIndex}),
+     * the result is read from the index and no classpath scanning takes place. Otherwise only classes
+     * whose class file header declares the annotation are loaded.
+     * </p>
      *
      * @param annotation the annotation to look for
      * @param baseClasses the base classes to scan
      * @return a collection of annotated classes
      */
     static Collection<Class<?>> findAnnotatedClasses(Class<? extends Annotation> annotation, Class<?>... baseClasses) {
-        return findAll(ClassMatchers.isAnnotatedWith(annotation), baseClasses);
+        if (baseClasses == null || baseClasses.length == 0) {
+            baseClasses = CONTEXT.getDefaultRootClasses().toArray(Class<?>[]::new);
+        }
+
+        Set<Class<?>> indexed = new HashSet<>();
+
+        for (Class<?> baseClass : baseClasses) {
+            ClassIndex index = ClassIndex.forClassLoader(baseClass.getClassLoader());
+
+            if (!index.covers(baseClass)) {
+                ClassScanIndex scanIndex = index(baseClasses);
+                return scanIndex.load(scanIndex.getAnnotated(annotation), Matcher.constant(true),
+                                      ClassMatchers.isAnnotatedWith(annotation));
+            }
+
+            indexed.addAll(index.getAnnotatedClasses(annotation, baseClass));
+        }
+
+        return indexed.stream().sorted(ORDER_CLASS_NAME).toList();
     }
 
     /**
@@ -90,7 +118,8 @@ public interface ClassFinder {
      * @return a collection of enum classes
      */
     static Collection<Class<?>> findEnums(Class<?>... baseClasses) {
-        return findAll(ClassMatchers.isEnum(), baseClasses);
+        ClassScanIndex index = index(baseClasses);
+        return index.load(index.getEnums(), Matcher.constant(true), ClassMatchers.isEnum());
     }
 
     /**
@@ -101,7 +130,9 @@ public interface ClassFinder {
      * @return a collection of implementations
      */
     static Collection<Class<?>> findImplementations(Class<?> interfaceClass, Class<?>... baseClasses) {
-        return findAll(implementsInterface(interfaceClass).and(isAbstract().not()), baseClasses);
+        ClassScanIndex index = index(baseClasses);
+        return index.load(index.getSubtypes(interfaceClass), ClassHeaderMatchers.isAbstract().not(),
+                          implementsInterface(interfaceClass).and(isAbstract().not()));
     }
 
     /**
@@ -112,7 +143,24 @@ public interface ClassFinder {
      * @return a collection of implementations
      */
     static Collection<Class<?>> findInheritedClasses(Class<?> superClass, Class<?>... baseClasses) {
-        return findAll(isSubtype(superClass).and(isAbstract().not()), baseClasses);
+        ClassScanIndex index = index(baseClasses);
+        return index.load(index.getSubtypes(superClass), ClassHeaderMatchers.isAbstract().not(),
+                          isSubtype(superClass).and(isAbstract().not()));
+    }
+
+    /**
+     * Finds all classes matching the given matcher, loading only classes whose class file header
+     * matches {@code candidates}.
+     *
+     * @param candidates  the pre-filter applied to class file headers
+     * @param matcher     the matcher to filter loaded classes
+     * @param baseClasses the base classes to scan
+     * @return a collection of matching classes sorted by name
+     */
+    static Collection<Class<?>> findAll(
+            Matcher<ClassHeader> candidates, Matcher<Class<?>> matcher, Class<?>... baseClasses) {
+        ClassScanIndex index = index(baseClasses);
+        return index.load(index.getHeaders(), candidates, matcher);
     }
 
     /**
@@ -146,18 +194,18 @@ public interface ClassFinder {
      * <p>This method performs the following operations:</p>
      * <ul>
      *     <li>If no base classes are provided, it retrieves default root classes from the {@link ScannerContext}.</li>
-     *     <li>Checks the {@link #CACHE} for already scanned and matched results. If found, returns the cached collection.</li>
-     *     <li>Uses the {@link ClassScanner} to scan the packages of the base classes for all available classes.</li>
+     *     <li>Looks up the {@link ClassScanIndex} of the base classes in {@link #INDEXES}, scanning their packages
+     *         with the {@link ClassScanner} on first use.</li>
      *     <li>Applies the provided {@link Matcher} to filter the scanned classes.</li>
      *     <li>Sorts the filtered classes using the provided list of {@link Comparator} objects.
-     *         If no comparators are provided, the original order is maintained.</li>
+     *         If no comparators are provided, classes are returned ordered by class name.</li>
      * </ul>
      *
      * <p>Important notes:</p>
      * <ul>
-     *     <li>The caching mechanism is based on a hash of the matcher and base classes to optimize performance.</li>
-     *     <li>Sorting is optional, and the classes can be returned in their natural or scanned order if no comparators are provided.</li>
-     *     <li>This method is thread-safe if the {@link #CACHE}, {@link ClassScanner}, and {@link ScannerContext} are accessed in a thread-safe manner.</li>
+     *     <li>Scan results are cached per list of base classes; the matcher is applied on every call.</li>
+     *     <li>Sorting is optional; without comparators the classes are returned ordered by class name.</li>
+     *     <li>This method is thread-safe if the {@link #INDEXES}, {@link ClassScanner}, and {@link ScannerContext} are accessed in a thread-safe manner.</li>
      * </ul>
      *
      * @param matcher     the matcher used to filter classes based on specific criteria; cannot be {@code null}.
@@ -172,34 +220,40 @@ public interface ClassFinder {
      */
     static Collection<Class<?>> findAll(
             Matcher<Class<?>> matcher, Collection<Comparator<Class<?>>> comparators, Class<?>... baseClasses) {
-        // Retrieve base classes from context if none are passed
-        if (baseClasses == null || baseClasses.length == 0) {
-            baseClasses = CONTEXT.getDefaultRootClasses().toArray(Class<?>[]::new);
+        Collection<Class<?>> classes = index(baseClasses).getClasses();
+
+        // The index is already ordered by class name; other orders combine the given comparators
+        if (comparators.isEmpty() || (comparators.size() == 1 && comparators.contains(ORDER_CLASS_NAME))) {
+            return classes.stream().filter(matcher::matches).toList();
         }
 
-        // Build a unique cache key based on base classes and matcher
-        final int cacheKey = Objects.hash(baseClasses);
+        Comparator<Class<?>> comparator = comparators.stream().reduce(Comparator::thenComparing).orElseThrow();
+
+        // Filter and sort classes
+        return classes.stream().filter(matcher::matches).sorted(comparator).toList();
+    }
 
-        // Check cache
-        Collection<Class<?>> classes = CACHE.get(cacheKey);
+    /**
+     * Returns the scan index for the base classes, scanning their packages on first use. If no base classes
+     * are given, the default root classes of the {@link ScannerContext} are used.
+     */
+    private static ClassScanIndex index(Class<?>... baseClasses) {
+        if (baseClasses == null || baseClasses.length == 0) {
+            baseClasses = CONTEXT.getDefaultRootClasses().toArray(Class<?>[]::new);
+        }
 
-        if (classes == null) {
-            classes = new HashSet<>();
+        List<Class<?>> key   = List.of(baseClasses);
+        ClassScanIndex index = INDEXES.get(key);
 
-            for (Class<?> baseClass : baseClasses) {
-                classes.addAll(SCANNER.scan(baseClass.getClassLoader(), baseClass));
+        if (index == null) {
+            index = ClassScanIndex.create(SCANNER, baseClasses);
+            ClassScanIndex existing = INDEXES.putIfAbsent(key, index);
+            if (existing != null) {
+                index = existing;
             }
-
-            CACHE.put(cacheKey, classes);
         }
 
-        // Combine comparators; default to no sorting if no comparators provided
-        Comparator<Class<?>> comparator = comparators.stream()
-                .reduce(Comparator::thenComparing)
-                .orElse((a, b) -> 0);
-
-        // Filter and sort classes
-        return classes.stream().filter(matcher::matches).sorted(comparator).toList();
+        return index;
     }
 
     /**
@@ -4,12 +4,13 @@ import org.jmouse.core.matcher.Matcher;
 
 import java.lang.reflect.Constructor;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * A class that finds constructors in a given class. It supports scanning superclasses
  * to retrieve inherited constructors if required.
+ * <p>
+ * Members are read from the shared {@link MemberTable} of the class.
+ * </p>
  */
 public class ConstructorFinder implements MemberFinder<Constructor<?>> {
 
@@ -22,14 +23,8 @@ public class ConstructorFinder implements MemberFinder<Constructor<?>> {
      */
     @Override
     public Collection<Constructor<?>> getMembers(Class<?> clazz, boolean deepScan) {
-        Set<Constructor<?>> constructors = new HashSet<>(Set.of(clazz.getDeclaredConstructors()));
-
-        // Optionally scan superclasses to include their constructors
-        if (deepScan && clazz.getSuperclass() != null && clazz.getSuperclass() != Object.class) {
-            constructors.addAll(getMembers(clazz.getSuperclass(), true));
-        }
-
-        return constructors;
+        MemberTable.Members<Constructor<?>> constructors = MemberTable.forClass(clazz).getConstructors();
+        return deepScan ? constructors.getAll() : constructors.getDeclared();
     }
 
     /**
@@ -4,15 +4,14 @@ import org.jmouse.core.matcher.Matcher;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-
-import static org.jmouse.core.reflection.FieldMatchers.isAnnotatedWith;
+import java.util.*;
 
 /**
  * A class that finds fields in a given class. It supports scanning superclasses
  * to retrieve inherited fields and filtering fields based on annotations.
+ * <p>
+ * Members are read from the shared {@link MemberTable} of the class.
+ * </p>
  */
 public class FieldFinder implements MemberFinder<Field> {
 
@@ -33,16 +32,18 @@ public class FieldFinder implements MemberFinder<Field> {
      */
     @SafeVarargs
     public static Field[] getAnnotatedWith(Class<?> clazz, Class<? extends Annotation>... annotations) {
-        MemberFinder<Field> finder  = new FieldFinder();
-        Matcher<Field>      matcher = Matcher.constant(false);
+        MemberTable.Members<Field> fields     = MemberTable.forClass(clazz).getFields();
+        Set<Field>                 candidates = new HashSet<>();
 
-        // Combine matchers for each annotation
+        // Collect fields carrying any of the annotations from the annotation index
         for (Class<? extends Annotation> annotation : annotations) {
-            matcher = matcher.or(isAnnotatedWith(annotation));
+            candidates.addAll(fields.getAnnotated(annotation));
         }
 
-        // Find and return fields matching any of the annotations
-        return finder.find(clazz, matcher).toArray(Field[]::new);
+        List<Field> sorted = new ArrayList<>(candidates);
+        sorted.sort(MemberFinder.defaultComparator());
+
+        return MemberFinder.preferDeclared(clazz, sorted, Matcher.constant(true)).toArray(Field[]::new);
     }
 
     /**
@@ -54,14 +55,8 @@ public class FieldFinder implements MemberFinder<Field> {
      */
     @Override
     public Collection<Field> getMembers(Class<?> clazz, boolean deepScan) {
-        Set<Field> fields = new HashSet<>(Set.of(clazz.getDeclaredFields()));
-
-        // Optionally scan superclasses for fields
-        if (deepScan && clazz.getSuperclass() != null) {
-            fields.addAll(getMembers(clazz.getSuperclass(), true));
-        }
-
-        return fields;
+        MemberTable.Members<Field> fields = MemberTable.forClass(clazz).getFields();
+        return deepScan ? fields.getAll() : fields.getDeclared();
     }
 
     /**
@@ -0,0 +1,72 @@
+package org.jmouse.core.reflection;
+
+import java.lang.reflect.Method;
+
+/**
+ * Fast invocation of a method, resolved once and cached per method.
+ * <p>
+ * Public getters and single-argument methods of public classes visible to this library are bound through
+ * {@link java.lang.invoke.LambdaMetafactory} to a generated functional interface, which the JIT compiles like
+ * a direct call. All other methods are invoked through a spreading {@link java.lang.invoke.MethodHandle}.
+ * Either way there is no lookup, no {@link Method#setAccessible(boolean)} call and no access check per call.
+ * </p>
+ * <p>
+ * Arguments follow {@link Method#invoke(Object, Object...)}: primitives are passed boxed, a variable arity
+ * parameter is passed as an array and static methods ignore the target. Any exception thrown by the method or
+ * caused by unsuitable arguments is reported as a {@link ReflectionException} carrying the original cause.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Invoker greet = Invoker.forMethod(Greeter.class, "greet", String.class);
+ *
+ * Object greeting = greet.invoke(greeter, "World");
+ * }</pre>
+ *
+ * @see Accessor
+ * @see Reflections#invokeMethod(Object, Method, Object...)
+ */
+public interface Invoker {
+
+    /**
+     * Returns the cached invoker of the given method.
+     *
+     * @param method the method
+     * @return the invoker
+     * @throws ReflectionException if the method cannot be made accessible
+     */
+    static Invoker forMethod(Method method) {
+        return MemberHandles.getInvoker(method);
+    }
+
+    /**
+     * Returns the cached invoker of the method with the given name and parameter types.
+     *
+     * @param type           the class declaring or inheriting the method
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return the invoker
+     * @throws ReflectionException if there is no such method or it cannot be made accessible
+     */
+    static Invoker forMethod(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        return forMethod(Reflections.getMethod(type, methodName, parameterTypes).orElseThrow(
+                () -> new ReflectionException("METHOD %s#%s NOT FOUND".formatted(type.getName(), methodName))));
+    }
+
+    /**
+     * Returns the invoked method.
+     *
+     * @return the method
+     */
+    Method getMethod();
+
+    /**
+     * Invokes the method.
+     *
+     * @param target    the object to invoke the method on, ignored for static methods
+     * @param arguments the arguments
+     * @return the result, or {@code null} for {@code void} methods
+     */
+    Object invoke(Object target, Object... arguments);
+
+}
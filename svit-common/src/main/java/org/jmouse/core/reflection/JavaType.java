@@ -25,7 +25,7 @@ public class JavaType {
     /**
      * A cache for storing resolved {@link JavaType} instances to avoid redundant resolution.
      */
-    private static final Map<Type, JavaType> CACHE = new HashMap<>();
+    private static final JavaTypeCache CACHE = new JavaTypeCache();
 
     /**
      * A constant representing a "no type" scenario.
@@ -50,7 +50,7 @@ public class JavaType {
     /**
      * The resolved raw class for this {@link JavaType}.
      */
-    private Class<?> rawType;
+    private volatile Class<?> rawType;
 
     /**
      * Lazily resolved {@link JavaType} representing the superclass.
@@ -65,7 +65,7 @@ public class JavaType {
     /**
      * An array of {@link JavaType} representing generic type arguments.
      */
-    private JavaType[] generics;
+    private volatile JavaType[] generics;
 
     /**
      * The cached hash code for this {@link JavaType}.
@@ -153,14 +153,7 @@ public class JavaType {
      * @return a {@link JavaType} instance
      */
     public static JavaType forType(Type type, JavaType parent) {
-        JavaType instance = CACHE.get(type);
-
-        if (instance == null) {
-            instance = new JavaType(type, parent);
-            CACHE.put(type, instance);
-        }
-
-        return instance;
+        return CACHE.get(type, parent, JavaType::new);
     }
 
     /**
@@ -947,6 +940,16 @@ public class JavaType {
         return CACHE.size();
     }
 
+    /**
+     * Returns the cache shared by all {@link JavaType} lookups, e.g. to bound it or read its statistics.
+     *
+     * @return the type cache
+     * @see JavaTypeCache#getStatistics()
+     */
+    public static JavaTypeCache getCache() {
+        return CACHE;
+    }
+
     /**
      * A singleton class representing the absence of a type.
      * <p>
@@ -0,0 +1,353 @@
+package org.jmouse.core.reflection;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * A concurrent cache of resolved {@link JavaType} instances that does not keep class loaders alive.
+ * <p>
+ * Entries are stored in segments attached to an owner class through a {@link ClassValue}. The owner is the
+ * class of the cached type that belongs to the most specific class loader, e.g. the application class for
+ * {@code List<UserDto>} rather than {@link List}. When that class loader becomes unreachable, for example after
+ * a web application is redeployed, the segment is collected together with its classes. Types without any
+ * owning class, such as {@code NoneType}, are kept in a shared segment.
+ * </p>
+ * <p>
+ * Lookups are lock-free: a {@link ClassValue} read followed by a {@link ConcurrentHashMap} read. A missing
+ * entry is created outside of any lock, concurrent creators of the same entry agree on the first one stored.
+ * The cache can be bounded with {@link #setMaximumSize(int)}; once full, new types are still resolved but no
+ * longer stored, which is reported as {@link Statistics#rejected() rejected}.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * JavaType.getCache().setMaximumSize(50_000);
+ *
+ * JavaTypeCache.Statistics statistics = JavaType.getCache().getStatistics();
+ * System.out.printf("JavaType cache: %s%n", statistics);
+ * }</pre>
+ */
+public final class JavaTypeCache {
+
+    /**
+     * Maximum size value meaning the cache is not bounded.
+     */
+    public static final int UNBOUNDED = -1;
+
+    /**
+     * Number of rejected entries between two recounts of a full cache.
+     */
+    private static final int RECOUNT_INTERVAL = 64;
+
+    private final ClassValue<Segment> segments = new ClassValue<>() {
+        @Override
+        protected Segment computeValue(Class<?> type) {
+            return register(new Segment());
+        }
+    };
+
+    private final Set<Segment>  registry = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final Segment       shared   = register(new Segment());
+    private final LongAdder     hits     = new LongAdder();
+    private final LongAdder     misses   = new LongAdder();
+    private final LongAdder     rejected = new LongAdder();
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final AtomicInteger overflow = new AtomicInteger();
+
+    private volatile int maximumSize;
+
+    /**
+     * Creates an unbounded cache.
+     */
+    public JavaTypeCache() {
+        this(UNBOUNDED);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries, or {@link #UNBOUNDED}
+     */
+    public JavaTypeCache(int maximumSize) {
+        setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Returns the cached {@link JavaType} for the type in the context of the given parent, creating and
+     * storing it with the factory on a miss.
+     *
+     * @param type    the type to look up
+     * @param parent  the parent context used to resolve type variables, or {@code null}
+     * @param factory creates the instance on a miss; it may look up other types recursively
+     * @return the cached or newly created instance
+     */
+    public JavaType get(Type type, JavaType parent, BiFunction<Type, JavaType, JavaType> factory) {
+        Key      key     = new Key(type, parent);
+        Segment  segment = segmentFor(type, parent);
+        JavaType cached  = segment.entries.get(key);
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        // created outside of computeIfAbsent, the factory resolves nested types through this cache
+        JavaType created = factory.apply(type, parent);
+
+        if (!admit()) {
+            rejected.increment();
+            return created;
+        }
+
+        JavaType existing = segment.entries.putIfAbsent(key, created);
+
+        if (existing != null) {
+            admitted.decrementAndGet();
+            return existing;
+        }
+
+        return created;
+    }
+
+    /**
+     * Returns the number of cached entries still reachable.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        int size = 0;
+
+        synchronized (registry) {
+            for (Segment segment : registry) {
+                size += segment.entries.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all entries and resets the statistics.
+     */
+    public void clear() {
+        synchronized (registry) {
+            registry.forEach(segment -> segment.entries.clear());
+        }
+
+        admitted.set(0);
+        hits.reset();
+        misses.reset();
+        rejected.reset();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the maximum size, or {@link #UNBOUNDED}
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Bounds the cache. Lowering the bound does not evict existing entries, it only stops admitting new ones
+     * until the cache shrinks below it.
+     *
+     * @param maximumSize the maximum number of entries, or {@link #UNBOUNDED}
+     * @throws IllegalArgumentException if the size is neither positive nor {@link #UNBOUNDED}
+     */
+    public void setMaximumSize(int maximumSize) {
+        if (maximumSize < 1 && maximumSize != UNBOUNDED) {
+            throw new IllegalArgumentException("Maximum size must be positive but was: %d".formatted(maximumSize));
+        }
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), rejected.sum(), size(), maximumSize);
+    }
+
+    @Override
+    public String toString() {
+        return "JavaTypeCache" + getStatistics();
+    }
+
+    /**
+     * Reserves a slot for a new entry. When the optimistic counter reaches the bound, it is recounted
+     * from the live segments every {@value #RECOUNT_INTERVAL} rejections, since segments of unloaded
+     * classes no longer hold entries.
+     */
+    private boolean admit() {
+        int maximum = maximumSize;
+
+        if (maximum == UNBOUNDED) {
+            admitted.incrementAndGet();
+            return true;
+        }
+
+        if (admitted.incrementAndGet() <= maximum) {
+            return true;
+        }
+
+        if (overflow.getAndIncrement() % RECOUNT_INTERVAL != 0) {
+            admitted.decrementAndGet();
+            return false;
+        }
+
+        admitted.set(size() + 1);
+
+        if (admitted.get() <= maximum) {
+            return true;
+        }
+
+        admitted.decrementAndGet();
+
+        return false;
+    }
+
+    private Segment register(Segment segment) {
+        registry.add(segment);
+        return segment;
+    }
+
+    private Segment segmentFor(Type type, JavaType parent) {
+        Class<?> owner = ownerOf(type, null);
+
+        if (parent != null) {
+            owner = ownerOf(parent.getType(), owner);
+        }
+
+        return owner == null ? shared : segments.get(owner);
+    }
+
+    /**
+     * Finds the class referenced by the type whose class loader is the most specific one, starting from the
+     * given candidate. Classes of the bootstrap loader never own a segment when any other class is available.
+     */
+    private static Class<?> ownerOf(Type type, Class<?> owner) {
+        switch (type) {
+            case Class<?> klass -> {
+                Class<?> component = klass;
+                while (component.isArray()) {
+                    component = component.getComponentType();
+                }
+                return moreSpecific(owner, component);
+            }
+            case ParameterizedType parameterized -> {
+                owner = ownerOf(parameterized.getRawType(), owner);
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    owner = ownerOf(argument, owner);
+                }
+                return owner;
+            }
+            case GenericArrayType array -> {
+                return ownerOf(array.getGenericComponentType(), owner);
+            }
+            case TypeVariable<?> variable -> {
+                return switch (variable.getGenericDeclaration()) {
+                    case Class<?> declaring -> moreSpecific(owner, declaring);
+                    case Member member -> moreSpecific(owner, member.getDeclaringClass());
+                    default -> owner;
+                };
+            }
+            case WildcardType wildcard -> {
+                for (Type bound : wildcard.getUpperBounds()) {
+                    owner = ownerOf(bound, owner);
+                }
+                for (Type bound : wildcard.getLowerBounds()) {
+                    owner = ownerOf(bound, owner);
+                }
+                return owner;
+            }
+            default -> {
+                return owner;
+            }
+        }
+    }
+
+    private static Class<?> moreSpecific(Class<?> current, Class<?> candidate) {
+        if (current == null) {
+            return candidate;
+        }
+
+        ClassLoader currentLoader   = current.getClassLoader();
+        ClassLoader candidateLoader = candidate.getClassLoader();
+
+        // the candidate wins if its loader delegates to the loader of the current owner
+        for (ClassLoader loader = candidateLoader; loader != null; loader = loader.getParent()) {
+            if (loader == currentLoader) {
+                return loader == candidateLoader ? current : candidate;
+            }
+        }
+
+        return currentLoader == null ? candidate : current;
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits        lookups served from the cache
+     * @param misses      lookups that created a new instance
+     * @param rejected    instances not stored because the cache was full
+     * @param size        entries currently cached
+     * @param maximumSize the bound, or {@link #UNBOUNDED}
+     */
+    public record Statistics(long hits, long misses, long rejected, int size, int maximumSize) {
+
+        /**
+         * Returns the share of lookups served from the cache.
+         *
+         * @return the hit rate between {@code 0} and {@code 1}
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "[size=%d, maximum=%s, hits=%d, misses=%d, rejected=%d, hit-rate=%.2f%%]".formatted(
+                    size, maximumSize == UNBOUNDED ? "unbounded" : maximumSize,
+                    hits, misses, rejected, hitRate() * 100);
+        }
+
+    }
+
+    /**
+     * The looked up type and its parent context. {@link JavaType#equals(Object)} ignores the parent chain, so
+     * the parent is compared by identity; parents come from this cache and are therefore canonical.
+     */
+    private record Key(Type type, JavaType parent) {
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Key that && type.equals(that.type) && parent == that.parent;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + System.identityHashCode(parent);
+        }
+
+    }
+
+    private static final class Segment {
+
+        private final ConcurrentMap<Key, JavaType> entries = new ConcurrentHashMap<>();
+
+    }
+
+}
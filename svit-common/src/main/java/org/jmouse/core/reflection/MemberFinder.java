@@ -6,6 +6,7 @@ import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,8 +45,35 @@ import java.util.Optional;
  */
 public interface MemberFinder<T extends Member> {
 
+    /**
+     * A comparator for sorting members alphabetically by their names.
+     */
+    Comparator<Member> ORDER_MEMBER_NAME = Comparator.comparing(Member::getName);
+
+    @SuppressWarnings("unchecked")
     static <T extends Member> Comparator<T> defaultComparator() {
-        return Comparator.comparing(Member::getName);
+        return (Comparator<T>) ORDER_MEMBER_NAME;
+    }
+
+    /**
+     * Applies the matching rule of {@link #find(Class, Matcher, Collection)} to a list of candidates: members
+     * declared by the class itself win, the others are used only if none of those matches.
+     *
+     * @param clazz      the class being searched
+     * @param candidates the candidate members, e.g. from a {@link MemberTable} index
+     * @param matcher    the matcher to filter the candidates
+     * @param <T>        the member type
+     * @return the matching candidates in their original order
+     */
+    static <T extends Member> List<T> preferDeclared(Class<?> clazz, List<T> candidates, Matcher<? super T> matcher) {
+        List<T> matched = candidates.stream()
+                .filter(member -> member.getDeclaringClass() == clazz && matcher.matches(member)).toList();
+
+        if (matched.isEmpty()) {
+            matched = candidates.stream().filter(matcher::matches).toList();
+        }
+
+        return matched;
     }
 
     /**
@@ -110,27 +138,40 @@ public interface MemberFinder<T extends Member> {
      * to the declaring class. If no matches are found, it relaxes the condition
      * and applies the matcher to all members of the class.</p>
      *
+     * <p>Members returned by {@link #getMembers(Class, boolean)} that are already in comparator order,
+     * such as those of a {@link MemberTable}, are not sorted again.</p>
+     *
      * @param clazz       the class whose members are to be searched
      * @param matcher     the matcher to filter the members
      * @param comparators a collection of comparators to sort the matched members; if empty, no sorting is applied
      * @return a collection of members that match the criteria, sorted as specified
      */
     default Collection<T> find(Class<?> clazz, Matcher<? super T> matcher, Collection<Comparator<T>> comparators) {
-        Matcher<Member> strictMatcher = MemberMatcher.isDeclaredClass(clazz).and((Matcher<? super Member>) matcher);
-        Collection<T>   members       = getMembers(clazz);
-
-        Collection<T> matched = members.stream()
-                .filter(strictMatcher::matches).toList();
+        // declared members are exactly those passing the strict declaring-class check
+        List<T> matched = getMembers(clazz, false).stream().filter(matcher::matches).toList();
 
         if (matched.isEmpty()) {
-            matched = members.stream().filter(matcher::matches).toList();
+            matched = getMembers(clazz).stream().filter(matcher::matches).toList();
+        }
+
+        if (comparators.isEmpty()) {
+            return matched;
         }
 
-        Comparator<T> comparator = comparators.stream()
-                .reduce(Comparator::thenComparing)
-                .orElse((a, b) -> 0);
+        Comparator<T> comparator = comparators.size() == 1
+                ? comparators.iterator().next() : comparators.stream().reduce(Comparator::thenComparing).orElseThrow();
+
+        return isSorted(matched, comparator) ? matched : matched.stream().sorted(comparator).toList();
+    }
+
+    private static <T> boolean isSorted(List<T> members, Comparator<T> comparator) {
+        for (int i = 1; i < members.size(); i++) {
+            if (comparator.compare(members.get(i - 1), members.get(i)) > 0) {
+                return false;
+            }
+        }
 
-        return matched.stream().sorted(comparator).toList();
+        return true;
     }
 
     /**
@@ -174,7 +215,7 @@ public interface MemberFinder<T extends Member> {
      * @return an {@link Optional} containing the first matching member, or empty if no match is found
      */
     default Optional<T> findFirst(Class<?> clazz, Matcher<? super T> matcher) {
-        return findFirst(clazz, matcher, Comparator.comparing(Member::getName));
+        return findFirst(clazz, matcher, defaultComparator());
     }
 
     /**
@@ -0,0 +1,524 @@
+package org.jmouse.core.reflection;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Creates and caches the {@link Accessor}s and {@link Invoker}s of members.
+ * <p>
+ * Handles are kept in a {@link ClassValue} of the declaring class, so they are released together with it.
+ * Members are made accessible once, when their handle is created; the handles themselves perform no access
+ * checks afterwards.
+ * </p>
+ */
+final class MemberHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType OBJECT_GETTER  = methodType(Object.class, Object.class);
+    private static final MethodType OBJECT_SETTER  = methodType(void.class, Object.class, Object.class);
+    private static final MethodType SPREAD_INVOKER = methodType(Object.class, Object.class, Object[].class);
+
+    private static final ClassValue<Handles> HANDLES = new ClassValue<>() {
+        @Override
+        protected Handles computeValue(Class<?> type) {
+            return new Handles();
+        }
+    };
+
+    private MemberHandles() {
+    }
+
+    static Accessor getAccessor(Field field) {
+        Map<Member, Object> members  = HANDLES.get(field.getDeclaringClass()).members;
+        Object              accessor = members.get(field);
+
+        // created outside of computeIfAbsent, concurrent creators agree on the first one stored
+        if (accessor == null) {
+            accessor = createAccessor(field);
+            Object existing = members.putIfAbsent(field, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+
+        return (Accessor) accessor;
+    }
+
+    static Accessor getAccessor(Class<?> type, String fieldName) {
+        Map<String, Accessor> named    = HANDLES.get(type).named;
+        Accessor              accessor = named.get(fieldName);
+
+        if (accessor == null) {
+            Field field = Reflections.getField(type, fieldName).orElseThrow(
+                    () -> new ReflectionException("FIELD %s#%s NOT FOUND".formatted(type.getName(), fieldName)));
+            accessor = getAccessor(field);
+            named.putIfAbsent(fieldName, accessor);
+        }
+
+        return accessor;
+    }
+
+    static Invoker getInvoker(Method method) {
+        Map<Member, Object> members = HANDLES.get(method.getDeclaringClass()).members;
+        Object              invoker = members.get(method);
+
+        if (invoker == null) {
+            invoker = createInvoker(method);
+            Object existing = members.putIfAbsent(method, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+
+        return (Invoker) invoker;
+    }
+
+    private static Accessor createAccessor(Field field) {
+        makeAccessible(field);
+
+        boolean      isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle getter;
+        MethodHandle setter   = null;
+
+        try {
+            getter = LOOKUP.unreflectGetter(field);
+            getter = isStatic ? MethodHandles.dropArguments(getter, 0, Object.class)
+                    : getter.asType(methodType(field.getType(), Object.class));
+        } catch (IllegalAccessException exception) {
+            throw new ReflectionException("Unable to read field '%s'".formatted(field), exception);
+        }
+
+        try {
+            setter = LOOKUP.unreflectSetter(field);
+            setter = isStatic ? MethodHandles.dropArguments(setter, 0, Object.class)
+                    : setter.asType(methodType(void.class, Object.class, field.getType()));
+        } catch (IllegalAccessException exception) {
+            // static final fields cannot be written, not even reflectively
+        }
+
+        return new FieldAccessor(field, getter, getter.asType(OBJECT_GETTER),
+                                 setter, setter == null ? null : setter.asType(OBJECT_SETTER));
+    }
+
+    private static Invoker createInvoker(Method method) {
+        makeAccessible(method);
+
+        Invoker invoker = createLambdaInvoker(method);
+
+        if (invoker != null) {
+            return invoker;
+        }
+
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(SPREAD_INVOKER);
+
+            return new HandleInvoker(method, handle);
+        } catch (IllegalAccessException exception) {
+            throw new ReflectionException("Unable to access method '%s'".formatted(method), exception);
+        }
+    }
+
+    /**
+     * Binds public instance methods with up to one parameter to a functional interface. The lambda class is
+     * defined in this library and strongly held by its class loader, so only public classes resolvable from
+     * here qualify; classes of child loaders, such as web applications, would otherwise never be unloaded.
+     *
+     * @return the invoker, or {@code null} if the method does not qualify
+     */
+    @SuppressWarnings("unchecked")
+    private static Invoker createLambdaInvoker(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        int      modifiers      = method.getModifiers();
+
+        if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || method.getParameterCount() > 1
+                || !Modifier.isPublic(declaringClass.getModifiers()) || !isVisible(declaringClass)) {
+            return null;
+        }
+
+        Class<?> returnType = method.getReturnType();
+
+        try {
+            MethodHandle implementation = LOOKUP.unreflect(method);
+
+            if (method.getParameterCount() == 0) {
+                if (returnType == void.class) {
+                    return null;
+                }
+
+                Function<Object, Object> function = (Function<Object, Object>) LambdaMetafactory.metafactory(
+                        LOOKUP, "apply", methodType(Function.class), OBJECT_GETTER, implementation,
+                        methodType(wrap(returnType), declaringClass)).getTarget().invokeExact();
+
+                return new FunctionInvoker(method, function);
+            }
+
+            Class<?> parameterType = wrap(method.getParameterTypes()[0]);
+
+            if (returnType == void.class) {
+                BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                        LOOKUP, "accept", methodType(BiConsumer.class), OBJECT_SETTER, implementation,
+                        methodType(void.class, declaringClass, parameterType)).getTarget().invokeExact();
+
+                return new ConsumerInvoker(method, consumer);
+            }
+
+            BiFunction<Object, Object, Object> function = (BiFunction<Object, Object, Object>) LambdaMetafactory
+                    .metafactory(LOOKUP, "apply", methodType(BiFunction.class),
+                                 methodType(Object.class, Object.class, Object.class), implementation,
+                                 methodType(wrap(returnType), declaringClass, parameterType))
+                    .getTarget().invokeExact();
+
+            return new BiFunctionInvoker(method, function);
+        } catch (Throwable throwable) {
+            // not bindable, e.g. a hidden or module-private class; the method handle path still works
+            return null;
+        }
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, MemberHandles.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError error) {
+            return false;
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static void makeAccessible(AccessibleObject member) {
+        if (!member.trySetAccessible()) {
+            throw new ReflectionException("Unable to make '%s' accessible".formatted(member));
+        }
+    }
+
+    private static ReflectionException failure(Throwable throwable) {
+        return throwable instanceof ReflectionException exception
+                ? exception : new ReflectionException(throwable.getMessage(), throwable);
+    }
+
+    private static void checkArguments(Object[] arguments, int expected) {
+        int actual = arguments == null ? 0 : arguments.length;
+
+        if (actual != expected) {
+            throw new ReflectionException("Wrong number of arguments: expected %d but was %d"
+                                                  .formatted(expected, actual));
+        }
+    }
+
+    private static final class Handles {
+
+        private final Map<Member, Object>   members = new ConcurrentHashMap<>();
+        private final Map<String, Accessor> named   = new ConcurrentHashMap<>();
+
+    }
+
+    /**
+     * Accessor backed by getter and setter handles of the exact field type and of {@code Object}.
+     * Typed methods adapt the exact handles with {@link MethodHandle#asType(MethodType)}, which is
+     * the identity for the field's own type.
+     */
+    private record FieldAccessor(Field field, MethodHandle getter, MethodHandle objectGetter,
+                                 MethodHandle setter, MethodHandle objectSetter) implements Accessor {
+
+        private static final MethodType BOOLEAN_GETTER = methodType(boolean.class, Object.class);
+        private static final MethodType BYTE_GETTER    = methodType(byte.class, Object.class);
+        private static final MethodType CHAR_GETTER    = methodType(char.class, Object.class);
+        private static final MethodType SHORT_GETTER   = methodType(short.class, Object.class);
+        private static final MethodType INT_GETTER     = methodType(int.class, Object.class);
+        private static final MethodType LONG_GETTER    = methodType(long.class, Object.class);
+        private static final MethodType FLOAT_GETTER   = methodType(float.class, Object.class);
+        private static final MethodType DOUBLE_GETTER  = methodType(double.class, Object.class);
+        private static final MethodType BOOLEAN_SETTER = methodType(void.class, Object.class, boolean.class);
+        private static final MethodType BYTE_SETTER    = methodType(void.class, Object.class, byte.class);
+        private static final MethodType CHAR_SETTER    = methodType(void.class, Object.class, char.class);
+        private static final MethodType SHORT_SETTER   = methodType(void.class, Object.class, short.class);
+        private static final MethodType INT_SETTER     = methodType(void.class, Object.class, int.class);
+        private static final MethodType LONG_SETTER    = methodType(void.class, Object.class, long.class);
+        private static final MethodType FLOAT_SETTER   = methodType(void.class, Object.class, float.class);
+        private static final MethodType DOUBLE_SETTER  = methodType(void.class, Object.class, double.class);
+
+        @Override
+        public Field getField() {
+            return field;
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return setter == null;
+        }
+
+        @Override
+        public Object get(Object target) {
+            try {
+                return objectGetter.invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void set(Object target, Object value) {
+            try {
+                writable(objectSetter).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public boolean getBoolean(Object target) {
+            try {
+                return (boolean) getter.asType(BOOLEAN_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public byte getByte(Object target) {
+            try {
+                return (byte) getter.asType(BYTE_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public char getChar(Object target) {
+            try {
+                return (char) getter.asType(CHAR_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public short getShort(Object target) {
+            try {
+                return (short) getter.asType(SHORT_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public int getInt(Object target) {
+            try {
+                return (int) getter.asType(INT_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public long getLong(Object target) {
+            try {
+                return (long) getter.asType(LONG_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public float getFloat(Object target) {
+            try {
+                return (float) getter.asType(FLOAT_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public double getDouble(Object target) {
+            try {
+                return (double) getter.asType(DOUBLE_GETTER).invokeExact(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) {
+            try {
+                writable(setter).asType(BOOLEAN_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setByte(Object target, byte value) {
+            try {
+                writable(setter).asType(BYTE_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setChar(Object target, char value) {
+            try {
+                writable(setter).asType(CHAR_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setShort(Object target, short value) {
+            try {
+                writable(setter).asType(SHORT_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setInt(Object target, int value) {
+            try {
+                writable(setter).asType(INT_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setLong(Object target, long value) {
+            try {
+                writable(setter).asType(LONG_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setFloat(Object target, float value) {
+            try {
+                writable(setter).asType(FLOAT_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        @Override
+        public void setDouble(Object target, double value) {
+            try {
+                writable(setter).asType(DOUBLE_SETTER).invokeExact(target, value);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+        private MethodHandle writable(MethodHandle handle) {
+            if (handle == null) {
+                throw new ReflectionException("Field '%s' is read-only".formatted(field));
+            }
+
+            return handle;
+        }
+
+        @Override
+        public String toString() {
+            return "Accessor[%s]".formatted(field);
+        }
+
+    }
+
+    private record HandleInvoker(Method method, MethodHandle handle) implements Invoker {
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... arguments) {
+            try {
+                return handle.invokeExact(target, arguments);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+    }
+
+    private record FunctionInvoker(Method method, Function<Object, Object> function) implements Invoker {
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... arguments) {
+            checkArguments(arguments, 0);
+
+            try {
+                return function.apply(target);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+    }
+
+    private record ConsumerInvoker(Method method, BiConsumer<Object, Object> consumer) implements Invoker {
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... arguments) {
+            checkArguments(arguments, 1);
+
+            try {
+                consumer.accept(target, arguments[0]);
+                return null;
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+    }
+
+    private record BiFunctionInvoker(Method method, BiFunction<Object, Object, Object> function) implements Invoker {
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object invoke(Object target, Object... arguments) {
+            checkArguments(arguments, 1);
+
+            try {
+                return function.apply(target, arguments[0]);
+            } catch (Throwable throwable) {
+                throw failure(throwable);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,228 @@
+package org.jmouse.core.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Reflective member metadata of a class, read once and shared by all member lookups.
+ * <p>
+ * Tables are attached to their class through a {@link ClassValue}, so they are created on first access and
+ * released together with the class. Each table holds the methods, fields and constructors of the class in
+ * the same scope as {@link MethodFinder}, {@link FieldFinder} and {@link ConstructorFinder} deep scans: the
+ * members declared by the class and by its supertypes. Every section is computed on first use from the
+ * declared members of the class and the tables of its supertypes.
+ * </p>
+ * <p>
+ * Members are kept sorted by name, with overloads in a fixed order, and indexed by name and by the types of
+ * their declared annotations. Queries therefore perform no reflection and no sorting. Returned lists are
+ * immutable and the {@link Member} instances are shared between callers, so an
+ * {@link AccessibleObject#setAccessible(boolean)} call made by one caller is visible to all.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MemberTable.Members<Field> fields = MemberTable.forClass(UserDto.class).getFields();
+ *
+ * List<Field> injected = fields.getAnnotated(Inject.class);
+ * List<Field> names    = fields.getNamed("name");
+ * }</pre>
+ */
+public final class MemberTable {
+
+    private static final ClassValue<MemberTable> TABLES = new ClassValue<>() {
+        @Override
+        protected MemberTable computeValue(Class<?> type) {
+            return new MemberTable(type);
+        }
+    };
+
+    private static final Comparator<Member> MEMBER_ORDER = Comparator.comparing(Member::getName)
+            .thenComparing(Object::toString);
+
+    private final    Class<?>                type;
+    private volatile Members<Method>         methods;
+    private volatile Members<Field>          fields;
+    private volatile Members<Constructor<?>> constructors;
+
+    private MemberTable(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the member table of the given class.
+     *
+     * @param type the class
+     * @return the shared table of the class
+     */
+    public static MemberTable forClass(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    /**
+     * Returns the methods declared by the class, its super classes except {@link Object}, and its interfaces.
+     *
+     * @return the method section of the table
+     */
+    public Members<Method> getMethods() {
+        Members<Method> methods = this.methods;
+
+        if (methods == null) {
+            this.methods = methods = new Members<>(type, type.getDeclaredMethods(),
+                                                   inherited(superclass(), true, MemberTable::getMethods));
+        }
+
+        return methods;
+    }
+
+    /**
+     * Returns the fields declared by the class and all of its super classes.
+     *
+     * @return the field section of the table
+     */
+    public Members<Field> getFields() {
+        Members<Field> fields = this.fields;
+
+        if (fields == null) {
+            this.fields = fields = new Members<>(type, type.getDeclaredFields(),
+                                                 inherited(type.getSuperclass(), false, MemberTable::getFields));
+        }
+
+        return fields;
+    }
+
+    /**
+     * Returns the constructors declared by the class and its super classes except {@link Object}.
+     *
+     * @return the constructor section of the table
+     */
+    public Members<Constructor<?>> getConstructors() {
+        Members<Constructor<?>> constructors = this.constructors;
+
+        if (constructors == null) {
+            this.constructors = constructors = new Members<>(
+                    type, type.getDeclaredConstructors(),
+                    inherited(superclass(), false, MemberTable::getConstructors));
+        }
+
+        return constructors;
+    }
+
+    private Class<?> superclass() {
+        Class<?> superclass = type.getSuperclass();
+        return superclass == Object.class ? null : superclass;
+    }
+
+    private <T extends Member> List<T> inherited(Class<?> superclass, boolean interfaces,
+                                                 Function<MemberTable, Members<T>> section) {
+        List<T> inherited = new ArrayList<>();
+
+        if (superclass != null) {
+            inherited.addAll(section.apply(forClass(superclass)).getAll());
+        }
+
+        if (interfaces) {
+            for (Class<?> implemented : type.getInterfaces()) {
+                inherited.addAll(section.apply(forClass(implemented)).getAll());
+            }
+        }
+
+        return inherited;
+    }
+
+    @Override
+    public String toString() {
+        return "MemberTable[%s]".formatted(type.getName());
+    }
+
+    /**
+     * One kind of members of a class with its indexes.
+     *
+     * @param <T> the member type
+     */
+    public static final class Members<T extends Member> {
+
+        private final List<T>                                   all;
+        private final List<T>                                   declared;
+        private final Map<String, List<T>>                      named;
+        private final Map<Class<? extends Annotation>, List<T>> annotated;
+
+        private Members(Class<?> type, T[] declared, List<T> inherited) {
+            Set<T> members = new LinkedHashSet<>(Arrays.asList(declared));
+            members.addAll(inherited);
+
+            List<T> sorted = new ArrayList<>(members);
+            sorted.sort(MEMBER_ORDER);
+
+            Map<String, List<T>>                      named     = new HashMap<>();
+            Map<Class<? extends Annotation>, List<T>> annotated = new HashMap<>();
+            List<T>                                   own       = new ArrayList<>();
+
+            for (T member : sorted) {
+                if (member.getDeclaringClass() == type) {
+                    own.add(member);
+                }
+
+                named.computeIfAbsent(member.getName(), key -> new ArrayList<>()).add(member);
+
+                for (Annotation annotation : ((AnnotatedElement) member).getDeclaredAnnotations()) {
+                    annotated.computeIfAbsent(annotation.annotationType(), key -> new ArrayList<>()).add(member);
+                }
+            }
+
+            named.replaceAll((key, value) -> List.copyOf(value));
+            annotated.replaceAll((key, value) -> List.copyOf(value));
+
+            this.all = List.copyOf(sorted);
+            this.declared = List.copyOf(own);
+            this.named = Map.copyOf(named);
+            this.annotated = Map.copyOf(annotated);
+        }
+
+        /**
+         * Returns all members, inherited ones included.
+         *
+         * @return the members sorted by name
+         */
+        public List<T> getAll() {
+            return all;
+        }
+
+        /**
+         * Returns the members declared by the class itself.
+         *
+         * @return the declared members sorted by name
+         */
+        public List<T> getDeclared() {
+            return declared;
+        }
+
+        /**
+         * Returns all members with the given name, e.g. the overloads of a method.
+         *
+         * @param name the member name
+         * @return the members with that name
+         */
+        public List<T> getNamed(String name) {
+            return named.getOrDefault(name, List.of());
+        }
+
+        /**
+         * Returns all members directly annotated with the given annotation type.
+         *
+         * @param annotation the annotation type
+         * @return the annotated members sorted by name
+         */
+        public List<T> getAnnotated(Class<? extends Annotation> annotation) {
+            return annotated.getOrDefault(annotation, List.of());
+        }
+
+        @Override
+        public String toString() {
+            return "Members[all=%d, declared=%d]".formatted(all.size(), declared.size());
+        }
+
+    }
+
+}
@@ -3,11 +3,14 @@ package org.jmouse.core.reflection;
 import org.jmouse.core.matcher.Matcher;
 
 import java.lang.reflect.Method;
-import java.util.*;
+import java.util.Collection;
 
 /**
  * A class that finds methods in a given class. It supports scanning superclasses
  * and interfaces to retrieve inherited or implemented methods.
+ * <p>
+ * Members are read from the shared {@link MemberTable} of the class.
+ * </p>
  */
 public class MethodFinder implements MemberFinder<Method> {
 
@@ -22,21 +25,8 @@ public class MethodFinder implements MemberFinder<Method> {
      */
     @Override
     public Collection<Method> getMembers(Class<?> clazz, boolean deepScan) {
-        Set<Method> methods = new HashSet<>(Set.of(clazz.getDeclaredMethods()));
-
-        // Optionally scan superclasses for methods (except Object.class)
-        if (deepScan && clazz.getSuperclass() != null && clazz.getSuperclass() != Object.class) {
-            methods.addAll(getMembers(clazz.getSuperclass(), true));
-        }
-
-        // Optionally scan interfaces for methods
-        if (deepScan) {
-            for (Class<?> ifc : clazz.getInterfaces()) {
-                methods.addAll(getMembers(ifc, true));
-            }
-        }
-
-        return methods;
+        MemberTable.Members<Method> methods = MemberTable.forClass(clazz).getMethods();
+        return deepScan ? methods.getAll() : methods.getDeclared();
     }
 
     /**
@@ -46,7 +36,8 @@ public class MethodFinder implements MemberFinder<Method> {
      * @return a collection of methods from the class
      */
     public static Collection<Method> getMethods(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
-        return FINDER.filter(clazz).parameterTypes(parameterTypes).methodName(methodName).find();
+        Matcher<Method> matcher = FINDER.filter(clazz).parameterTypes(parameterTypes).matcher();
+        return MemberFinder.preferDeclared(clazz, MemberTable.forClass(clazz).getMethods().getNamed(methodName), matcher);
     }
 
     /**
@@ -1,5 +1,7 @@
 package org.jmouse.core.reflection;
 
+import org.jmouse.core.matcher.Matcher;
+
 import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
@@ -176,7 +178,8 @@ abstract public class Reflections {
      *                             }</pre>
      */
     public static Constructor<?> findFirstAnnotatedConstructor(Class<?> clazz, Class<? extends Annotation> annotation) {
-        return new ConstructorFinder().findFirst(clazz, MethodMatchers.isAnnotatedWith(annotation))
+        List<Constructor<?>> constructors = MemberTable.forClass(clazz).getConstructors().getAnnotated(annotation);
+        return MemberFinder.preferDeclared(clazz, constructors, Matcher.constant(true)).stream().findFirst()
                 .orElseThrow(() -> new ReflectionException("ANNOTATED CONSTRUCTOR NOT FOUND"));
     }
 
@@ -197,7 +200,8 @@ abstract public class Reflections {
      * }</pre>
      */
     public static Set<Field> findAllAnnotatedFields(Class<?> clazz, Class<? extends Annotation> annotation) {
-        return new HashSet<>(new FieldFinder().find(clazz, FieldMatchers.isAnnotatedWith(annotation)));
+        List<Field> fields = MemberTable.forClass(clazz).getFields().getAnnotated(annotation);
+        return new HashSet<>(MemberFinder.preferDeclared(clazz, fields, Matcher.constant(true)));
     }
 
     /**
@@ -219,7 +223,8 @@ abstract public class Reflections {
      * }</pre>
      */
     public static Set<Method> findAllAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotation) {
-        return new HashSet<>(new MethodFinder().find(clazz, MethodMatchers.isAnnotatedWith(annotation)));
+        List<Method> methods = MemberTable.forClass(clazz).getMethods().getAnnotated(annotation);
+        return new HashSet<>(MemberFinder.preferDeclared(clazz, methods, Matcher.constant(true)));
     }
 
     /**
@@ -236,7 +241,8 @@ abstract public class Reflections {
      * }</pre>
      */
     public static Optional<Field> getField(Class<?> targetClass, String fieldName) {
-        return new FieldFinder().findFirst(targetClass, FieldMatchers.nameEquals(fieldName));
+        List<Field> fields = MemberTable.forClass(targetClass).getFields().getNamed(fieldName);
+        return MemberFinder.preferDeclared(targetClass, fields, Matcher.constant(true)).stream().findFirst();
     }
 
     /**
@@ -257,7 +263,8 @@ abstract public class Reflections {
     }
 
     /**
-     * Sets the value of a field in an object by its field name.
+     * Sets the value of a field in an object by its field name. The field is resolved once and then
+     * written through its cached {@link Accessor}.
      *
      * @param object    the object whose field is to be set
      * @param fieldName the name of the field
@@ -271,7 +278,11 @@ abstract public class Reflections {
      * @see #getFieldValue(Object, String)
      */
     public static void setFieldValue(Object object, String fieldName, Object value) {
-        getField(object.getClass(), fieldName).ifPresent(field -> setFieldValue(object, field, value));
+        Accessor accessor = findAccessor(object.getClass(), fieldName);
+
+        if (accessor != null && !accessor.isReadOnly()) {
+            accessor.set(object, value);
+        }
     }
 
     /**
@@ -296,7 +307,8 @@ abstract public class Reflections {
     }
 
     /**
-     * Gets the value of a field from an object by its field name.
+     * Gets the value of a field from an object by its field name. The field is resolved once and then
+     * read through its cached {@link Accessor}.
      *
      * @param object    the object whose field value is to be retrieved
      * @param fieldName the name of the field
@@ -311,7 +323,20 @@ abstract public class Reflections {
      * @see #setFieldValue(Object, String, Object)
      */
     public static Object getFieldValue(Object object, String fieldName) {
-        return getField(object.getClass(), fieldName).map(field -> getFieldValue(object, field)).orElse(null);
+        Accessor accessor = findAccessor(object.getClass(), fieldName);
+        return accessor == null ? null : accessor.get(object);
+    }
+
+    /**
+     * Returns the cached {@link Accessor} of the named field, or {@code null} if the field does not exist
+     * or cannot be made accessible.
+     */
+    private static Accessor findAccessor(Class<?> type, String fieldName) {
+        try {
+            return Accessor.forField(type, fieldName);
+        } catch (ReflectionException ignore) {
+            return null;
+        }
     }
 
     /**
@@ -401,8 +426,8 @@ abstract public class Reflections {
      * }</pre>
      */
     public static Optional<Method> getMethod(Class<?> targetClass, String methodName, Class<?>... types) {
-        return new MethodFinder().findFirst(targetClass,
-                                            MethodMatchers.nameEquals(methodName).and(hasParameterTypes(types)));
+        List<Method> methods = MemberTable.forClass(targetClass).getMethods().getNamed(methodName);
+        return MemberFinder.preferDeclared(targetClass, methods, hasParameterTypes(types)).stream().findFirst();
     }
 
     /**
@@ -0,0 +1,310 @@
+package org.jmouse.core.reflection.scanner;
+
+import org.jmouse.core.reflection.ReflectionException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The header of a class file: its name, access flags, direct supertypes and class-level annotations,
+ * read straight from the bytecode without loading the class.
+ * <p>
+ * Only the parts of the class file needed to decide whether a class is worth loading are kept. Parsing
+ * walks the constant pool, skips fields and methods and stops after the class attributes; annotation
+ * element values are skipped, only the annotation types of {@code RuntimeVisibleAnnotations} are recorded.
+ * All names are binary names as returned by {@link Class#getName()}.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try (InputStream stream = resource.getInputStream()) {
+ *     ClassHeader header = ClassHeader.read(stream, classLoader);
+ *
+ *     if (header.hasAnnotation("svit.beans.annotation.Provide")) {
+ *         Class<?> type = header.load();
+ *     }
+ * }
+ * }</pre>
+ */
+public final class ClassHeader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE  = 0x0200;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM       = 0x4000;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final String       className;
+    private final String       superClassName;
+    private final List<String> interfaceNames;
+    private final Set<String>  annotationNames;
+    private final int          accessFlags;
+    private final ClassLoader  classLoader;
+
+    private ClassHeader(String className, String superClassName, List<String> interfaceNames,
+                        Set<String> annotationNames, int accessFlags, ClassLoader classLoader) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.interfaceNames = interfaceNames;
+        this.annotationNames = annotationNames;
+        this.accessFlags = accessFlags;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Parses the header of the class file provided by the stream.
+     *
+     * @param stream      the class file bytes; the stream is not closed
+     * @param classLoader the class loader the class is loaded with
+     * @return the parsed header
+     * @throws ReflectionException if the stream does not contain a valid class file
+     */
+    public static ClassHeader read(InputStream stream, ClassLoader classLoader) {
+        try {
+            return parse(new DataInputStream(stream), classLoader);
+        } catch (IOException | RuntimeException exception) {
+            throw new ReflectionException("Unable to read class file header", exception);
+        }
+    }
+
+    private static ClassHeader parse(DataInputStream input, ClassLoader classLoader) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+
+        input.skipNBytes(4); // minor and major version
+
+        int      count     = input.readUnsignedShort();
+        Object[] constants = new Object[count];
+        int[]    classes   = new int[count];
+
+        for (int i = 1; i < count; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 1 -> constants[i] = input.readUTF();                  // Utf8
+                case 7 -> classes[i] = input.readUnsignedShort();          // Class
+                case 3, 4 -> input.skipNBytes(4);                          // Integer, Float
+                case 5, 6 -> {                                             // Long, Double take two slots
+                    input.skipNBytes(8);
+                    i++;
+                }
+                case 9, 10, 11, 12, 17, 18 -> input.skipNBytes(4);         // refs, NameAndType, dynamic
+                case 8, 16, 19, 20 -> input.skipNBytes(2);                 // String, MethodType, Module, Package
+                case 15 -> input.skipNBytes(3);                            // MethodHandle
+                default -> throw new IOException("Unknown constant pool tag %d".formatted(tag));
+            }
+        }
+
+        int          accessFlags = input.readUnsignedShort();
+        String       className   = className(constants, classes, input.readUnsignedShort());
+        String       superName   = className(constants, classes, input.readUnsignedShort());
+        int          interfaces  = input.readUnsignedShort();
+        List<String> names       = new ArrayList<>(interfaces);
+
+        for (int i = 0; i < interfaces; i++) {
+            names.add(className(constants, classes, input.readUnsignedShort()));
+        }
+
+        skipMembers(input); // fields
+        skipMembers(input); // methods
+
+        List<String> annotations = new ArrayList<>();
+        int          attributes  = input.readUnsignedShort();
+
+        for (int i = 0; i < attributes; i++) {
+            String name   = (String) constants[input.readUnsignedShort()];
+            int    length = input.readInt();
+
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                int total = input.readUnsignedShort();
+                for (int j = 0; j < total; j++) {
+                    annotations.add(descriptorToName((String) constants[input.readUnsignedShort()]));
+                    skipElementValuePairs(input);
+                }
+            } else {
+                input.skipNBytes(length);
+            }
+        }
+
+        return new ClassHeader(className, superName, List.copyOf(names), Set.copyOf(annotations),
+                               accessFlags, classLoader);
+    }
+
+    private static String className(Object[] constants, int[] classes, int index) {
+        // index 0 is used for the super class of java.lang.Object and module-info
+        return index == 0 ? null : ((String) constants[classes[index]]).replace('/', '.');
+    }
+
+    private static String descriptorToName(String descriptor) {
+        // annotation types are stored as field descriptors: Lorg/example/Annotation;
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private static void skipMembers(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+
+        for (int i = 0; i < count; i++) {
+            input.skipNBytes(6); // access flags, name and descriptor
+            int attributes = input.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                input.skipNBytes(2);
+                input.skipNBytes(input.readInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream input) throws IOException {
+        int pairs = input.readUnsignedShort();
+
+        for (int i = 0; i < pairs; i++) {
+            input.skipNBytes(2); // element name
+            skipElementValue(input);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream input) throws IOException {
+        int tag = input.readUnsignedByte();
+
+        switch (tag) {
+            case 'e' -> input.skipNBytes(4);           // enum type and constant name
+            case '@' -> {                              // nested annotation
+                input.skipNBytes(2);
+                skipElementValuePairs(input);
+            }
+            case '[' -> {
+                int values = input.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(input);
+                }
+            }
+            default -> input.skipNBytes(2);            // constants and class literals
+        }
+    }
+
+    /**
+     * Loads and initializes the class described by this header.
+     *
+     * @return the class
+     * @throws ReflectionException if the class cannot be loaded
+     */
+    public Class<?> load() {
+        try {
+            return Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException | LinkageError error) {
+            throw new ReflectionException(error);
+        }
+    }
+
+    /**
+     * Returns the binary name of the class.
+     *
+     * @return the class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Returns the binary name of the direct super class.
+     *
+     * @return the super class name, {@code null} for {@code java.lang.Object} and module descriptors
+     */
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * Returns the binary names of the directly implemented interfaces.
+     *
+     * @return an immutable list of interface names
+     */
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * Returns the binary names of the runtime-visible annotations declared on the class itself.
+     *
+     * @return an immutable set of annotation names
+     */
+    public Set<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * Checks whether the class itself declares the given runtime-visible annotation.
+     *
+     * @param annotationName the binary name of the annotation type
+     * @return {@code true} if the annotation is declared directly on the class
+     */
+    public boolean hasAnnotation(String annotationName) {
+        return annotationNames.contains(annotationName);
+    }
+
+    /**
+     * Returns the class file access flags.
+     *
+     * @return the access flags
+     */
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    /**
+     * Returns the class loader the class is loaded with.
+     *
+     * @return the class loader
+     */
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Checks whether the class is an interface, including annotation types.
+     *
+     * @return {@code true} for interfaces
+     */
+    public boolean isInterface() {
+        return (accessFlags & ACC_INTERFACE) != 0;
+    }
+
+    /**
+     * Checks whether the class is abstract, including interfaces.
+     *
+     * @return {@code true} for abstract classes and interfaces
+     */
+    public boolean isAbstract() {
+        return (accessFlags & Modifier.ABSTRACT) != 0;
+    }
+
+    /**
+     * Checks whether the class is an annotation type.
+     *
+     * @return {@code true} for annotation types
+     */
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * Checks whether the class is an enum.
+     *
+     * @return {@code true} for enum types
+     */
+    public boolean isEnum() {
+        return (accessFlags & ACC_ENUM) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassHeader[%s]".formatted(className);
+    }
+
+}
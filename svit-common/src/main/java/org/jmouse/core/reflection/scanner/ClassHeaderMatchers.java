@@ -0,0 +1,168 @@
+package org.jmouse.core.reflection.scanner;
+
+import org.jmouse.core.matcher.Matcher;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for creating matchers that work with {@link ClassHeader}s, deciding from the bytecode alone
+ * whether a class is worth loading.
+ * <p>
+ * Header matchers are conservative pre-filters: they may accept a class the corresponding {@link Class} matcher
+ * rejects, but never reject a class it would accept. Whenever the header alone is not conclusive, the direct
+ * supertypes are loaded without initialization and inspected; results are cached per supertype name inside
+ * the matcher, so shared base classes are looked at once per query.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Set<Class<?>> services = scanner.scan(
+ *         ClassHeaderMatchers.isSubtype(Service.class).and(ClassHeaderMatchers.isAbstract().not()),
+ *         ClassMatchers.isSubtype(Service.class),
+ *         classLoader, Application.class);
+ * }</pre>
+ *
+ * @see ClassHeader
+ * @see org.jmouse.core.reflection.ClassMatchers
+ */
+public final class ClassHeaderMatchers {
+
+    private ClassHeaderMatchers() {
+    }
+
+    /**
+     * Creates a matcher accepting classes that may carry the given annotation, directly or, for
+     * {@link Inherited} annotations, through a super class.
+     *
+     * @param annotation the annotation type
+     * @return a header matcher for the annotation
+     */
+    public static Matcher<ClassHeader> isAnnotatedWith(Class<? extends Annotation> annotation) {
+        return new AnnotatedMatcher(annotation, annotation.isAnnotationPresent(Inherited.class));
+    }
+
+    /**
+     * Creates a matcher accepting classes assignable to the given type.
+     *
+     * @param type the expected supertype
+     * @return a header matcher for the supertype
+     */
+    public static Matcher<ClassHeader> isSubtype(Class<?> type) {
+        return new SubtypeMatcher(type);
+    }
+
+    /**
+     * Creates a matcher accepting abstract classes and interfaces.
+     *
+     * @return a header matcher for abstract types
+     */
+    public static Matcher<ClassHeader> isAbstract() {
+        return ClassHeader::isAbstract;
+    }
+
+    /**
+     * Creates a matcher accepting enum types.
+     *
+     * @return a header matcher for enums
+     */
+    public static Matcher<ClassHeader> isEnum() {
+        return ClassHeader::isEnum;
+    }
+
+    /**
+     * Loads a supertype named in a header without initializing it.
+     *
+     * @return the class, or {@code null} if it is not visible to the loader
+     */
+    static Class<?> loadSupertype(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError error) {
+            return null;
+        }
+    }
+
+    private record AnnotatedMatcher(Class<? extends Annotation> annotation, boolean inherited,
+                                    Map<String, Boolean> supertypes) implements Matcher<ClassHeader> {
+
+        private AnnotatedMatcher(Class<? extends Annotation> annotation, boolean inherited) {
+            this(annotation, inherited, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public boolean matches(ClassHeader header) {
+            if (header.hasAnnotation(annotation.getName())) {
+                return true;
+            }
+
+            String superName = header.getSuperClassName();
+
+            if (!inherited || superName == null || header.isInterface()) {
+                return false;
+            }
+
+            return supertypes.computeIfAbsent(superName, name -> {
+                Class<?> superClass = loadSupertype(name, header.getClassLoader());
+                // an unresolvable super class cannot be decided here, let the class matcher do it
+                return superClass == null || superClass.isAnnotationPresent(annotation);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "HEADER_ANNOTATED [ %s ]".formatted(annotation.getName());
+        }
+
+    }
+
+    private record SubtypeMatcher(Class<?> type, Map<String, Boolean> supertypes) implements Matcher<ClassHeader> {
+
+        private SubtypeMatcher(Class<?> type) {
+            this(type, new ConcurrentHashMap<>());
+        }
+
+        @Override
+        public boolean matches(ClassHeader header) {
+            if (type == Object.class || type.getName().equals(header.getClassName())) {
+                return true;
+            }
+
+            if (header.getSuperClassName() != null && isSubtype(header.getSuperClassName(), header)) {
+                return true;
+            }
+
+            for (String interfaceName : header.getInterfaceNames()) {
+                if (isSubtype(interfaceName, header)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isSubtype(String supertypeName, ClassHeader header) {
+            if (type.getName().equals(supertypeName)) {
+                return true;
+            }
+
+            if (Object.class.getName().equals(supertypeName)) {
+                return false;
+            }
+
+            return supertypes.computeIfAbsent(supertypeName, name -> {
+                Class<?> supertype = loadSupertype(name, header.getClassLoader());
+                return supertype == null || type.isAssignableFrom(supertype);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "HEADER_SUBTYPE [ %s ]".formatted(type.getName());
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+package org.jmouse.core.reflection.scanner;
+
+import org.jmouse.core.reflection.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Runtime view of the class index generated at build time by the {@code jmouse-index} annotation processor.
+ * <p>
+ * Every classpath root compiled with the processor contains a {@value #INDEX_LOCATION} resource listing
+ * the annotated types as {@code annotation=type} lines. All such resources visible to a class loader are
+ * merged once and kept for the lifetime of the loader. The index refers to its loader only weakly, so it
+ * does not keep the loader alive.
+ * </p>
+ * <p>
+ * The index is only authoritative for the classpath root it was generated in: a base class is
+ * {@link #covers(Class) covered} when its own root carries an index. Candidates read from the index are
+ * loaded and checked for the annotation again, so a stale index can miss classes but never report
+ * classes that are no longer annotated.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ClassIndex index = ClassIndex.forClassLoader(Application.class.getClassLoader());
+ *
+ * if (index.covers(Application.class)) {
+ *     Set<Class<?>> beans = index.getAnnotatedClasses(Provide.class, Application.class);
+ * }
+ * }</pre>
+ */
+public final class ClassIndex {
+
+    /**
+     * Location of the generated index, relative to the classpath root.
+     */
+    public static final String INDEX_LOCATION = "META-INF/jmouse/class.index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassIndex.class);
+
+    private static final Map<ClassLoader, ClassIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // a strong reference would keep the weak key of INDEXES reachable forever
+    private final WeakReference<ClassLoader> classLoader;
+    private final Set<String>                roots   = new HashSet<>();
+    private final Map<String, List<String>>  entries = new HashMap<>();
+
+    private ClassIndex(ClassLoader classLoader) {
+        this.classLoader = new WeakReference<>(classLoader);
+        load(classLoader);
+    }
+
+    /**
+     * Returns the merged index of all {@value #INDEX_LOCATION} resources visible to the given class loader.
+     *
+     * @param classLoader the class loader to read the index from
+     * @return the class index, possibly empty
+     */
+    public static ClassIndex forClassLoader(ClassLoader classLoader) {
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+
+        return INDEXES.computeIfAbsent(classLoader, ClassIndex::new);
+    }
+
+    /**
+     * Checks whether any index resource was found.
+     *
+     * @return {@code true} if no index is available
+     */
+    public boolean isEmpty() {
+        return roots.isEmpty();
+    }
+
+    /**
+     * Checks whether the classpath root of the given base class was indexed at build time.
+     *
+     * @param baseClass the class whose package is about to be scanned
+     * @return {@code true} if lookups for this base class can be answered from the index
+     */
+    public boolean covers(Class<?> baseClass) {
+        if (isEmpty() || Reflections.isJrtResource(baseClass)) {
+            return false;
+        }
+
+        ClassLoader classLoader = this.classLoader.get();
+
+        if (classLoader == null) {
+            return false;
+        }
+
+        String classFile = baseClass.getName().replace('.', '/') + ".class";
+        URL    resource  = classLoader.getResource(classFile);
+
+        if (resource == null) {
+            return false;
+        }
+
+        String location = resource.toString();
+
+        return roots.contains(location.substring(0, location.length() - classFile.length()));
+    }
+
+    /**
+     * Returns the indexed classes annotated with the given annotation located in the package of the base class
+     * or one of its sub-packages.
+     *
+     * @param annotation the annotation to look for
+     * @param baseClass  the class defining the root package
+     * @return the annotated classes
+     */
+    public Set<Class<?>> getAnnotatedClasses(Class<? extends Annotation> annotation, Class<?> baseClass) {
+        Set<Class<?>> classes     = new HashSet<>();
+        String        prefix      = baseClass.getPackageName().isEmpty() ? "" : baseClass.getPackageName() + ".";
+        ClassLoader   classLoader = this.classLoader.get();
+
+        if (classLoader == null) {
+            return classes;
+        }
+
+        for (String className : entries.getOrDefault(annotation.getName(), List.of())) {
+            if (className.startsWith(prefix)) {
+                try {
+                    Class<?> type = Class.forName(className, false, classLoader);
+                    if (type.isAnnotationPresent(annotation)) {
+                        classes.add(type);
+                    }
+                } catch (ClassNotFoundException | LinkageError exception) {
+                    LOGGER.trace("Unable to get indexed class '{}'. Cause: {}", className, exception.getMessage());
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    private void load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+
+            while (resources.hasMoreElements()) {
+                URL    resource = resources.nextElement();
+                String location = resource.toString();
+
+                roots.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+                read(resource);
+            }
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to read class index '{}'. Cause: {}", INDEX_LOCATION, exception.getMessage());
+            roots.clear();
+            entries.clear();
+        }
+
+        if (!roots.isEmpty()) {
+            LOGGER.info("Class index loaded from {} classpath root(s)", roots.size());
+        }
+    }
+
+    private void read(URL resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                int separator = line.indexOf('=');
+
+                if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+
+                entries.computeIfAbsent(line.substring(0, separator), key -> new ArrayList<>())
+                        .add(line.substring(separator + 1));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+package org.jmouse.core.reflection.scanner;
+
+import org.jmouse.core.matcher.Matcher;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The result of scanning a set of root packages, indexed for repeated queries.
+ * <p>
+ * The index is built once from the {@link ClassHeader}s of all classes found under the packages of the base
+ * classes, without loading them. Besides the full list ordered by class name, it keeps two secondary indexes:
+ * <ul>
+ *     <li>annotation name &rarr; classes declaring the annotation directly,</li>
+ *     <li>supertype name &rarr; classes extending or implementing it, directly or transitively.</li>
+ * </ul>
+ * A query therefore only touches its own candidates, and classes are loaded on first request and
+ * remembered. Supertypes outside the scanned packages are inspected without initialization.
+ * </p>
+ * <p>
+ * The index is immutable once built and safe for concurrent queries. All query results are ordered by
+ * class name.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ClassScanIndex index = ClassScanIndex.create(new DefaultClassScanner(), Application.class);
+ *
+ * List<Class<?>> handlers = index.load(index.getSubtypes(Handler.class),
+ *                                      ClassHeaderMatchers.isAbstract().not(), Matcher.constant(true));
+ * }</pre>
+ */
+public final class ClassScanIndex {
+
+    private static final String OBJECT = Object.class.getName();
+
+    private final    ClassScanner                    scanner;
+    private final    List<ClassHeader>               headers;
+    private final    List<ClassHeader>               enums;
+    private final    Map<String, List<ClassHeader>>  annotated = new HashMap<>();
+    private final    Map<String, List<ClassHeader>>  subtypes  = new HashMap<>();
+    private final    Map<String, Optional<Class<?>>> loaded    = new ConcurrentHashMap<>();
+    private volatile List<Class<?>>                  classes;
+
+    private ClassScanIndex(ClassScanner scanner, Collection<ClassHeader> scanned) {
+        Map<String, ClassHeader> byName = new TreeMap<>();
+
+        for (ClassHeader header : scanned) {
+            byName.putIfAbsent(header.getClassName(), header);
+        }
+
+        this.scanner = scanner;
+        this.headers = List.copyOf(byName.values());
+
+        List<ClassHeader>        enums      = new ArrayList<>();
+        Map<String, Set<String>> supertypes = new HashMap<>();
+
+        for (ClassHeader header : headers) {
+            if (header.isEnum()) {
+                enums.add(header);
+            }
+
+            for (String annotation : header.getAnnotationNames()) {
+                annotated.computeIfAbsent(annotation, key -> new ArrayList<>()).add(header);
+            }
+
+            for (String supertype : getSupertypes(header.getClassName(), header.getClassLoader(), byName, supertypes)) {
+                subtypes.computeIfAbsent(supertype, key -> new ArrayList<>()).add(header);
+            }
+        }
+
+        this.enums = List.copyOf(enums);
+        annotated.replaceAll((key, value) -> List.copyOf(value));
+        subtypes.replaceAll((key, value) -> List.copyOf(value));
+    }
+
+    /**
+     * Scans the packages of the base classes and indexes the class headers found.
+     *
+     * @param scanner     the scanner reading the class headers
+     * @param baseClasses the base classes whose packages are scanned
+     * @return the index
+     */
+    public static ClassScanIndex create(ClassScanner scanner, Class<?>... baseClasses) {
+        Map<ClassLoader, List<Class<?>>> byLoader = new LinkedHashMap<>();
+        List<ClassHeader>                headers  = new ArrayList<>();
+
+        for (Class<?> baseClass : baseClasses) {
+            byLoader.computeIfAbsent(baseClass.getClassLoader(), key -> new ArrayList<>()).add(baseClass);
+        }
+
+        // one call per class loader lets the scanner process its base classes concurrently
+        byLoader.forEach((classLoader, classes) -> headers.addAll(
+                scanner.scanHeaders(classLoader, classes.toArray(Class<?>[]::new))));
+
+        return new ClassScanIndex(scanner, headers);
+    }
+
+    /**
+     * Returns the headers of all scanned classes.
+     *
+     * @return an immutable list ordered by class name
+     */
+    public List<ClassHeader> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the headers of classes that may carry the annotation: classes declaring it and, for
+     * {@link Inherited} annotations, all of their subclasses.
+     *
+     * @param annotation the annotation type
+     * @return the candidate headers ordered by class name
+     */
+    public List<ClassHeader> getAnnotated(Class<? extends Annotation> annotation) {
+        List<ClassHeader> declaring = annotated.getOrDefault(annotation.getName(), List.of());
+
+        if (declaring.isEmpty() || !annotation.isAnnotationPresent(Inherited.class)) {
+            return declaring;
+        }
+
+        Map<String, ClassHeader> candidates = new TreeMap<>();
+
+        for (ClassHeader header : declaring) {
+            candidates.put(header.getClassName(), header);
+            for (ClassHeader subtype : subtypes.getOrDefault(header.getClassName(), List.of())) {
+                candidates.put(subtype.getClassName(), subtype);
+            }
+        }
+
+        return List.copyOf(candidates.values());
+    }
+
+    /**
+     * Returns the headers of all scanned classes extending or implementing the given type, including
+     * abstract ones.
+     *
+     * @param type the supertype
+     * @return the subtype headers ordered by class name
+     */
+    public List<ClassHeader> getSubtypes(Class<?> type) {
+        return type == Object.class ? headers : subtypes.getOrDefault(type.getName(), List.of());
+    }
+
+    /**
+     * Returns the headers of all scanned enums.
+     *
+     * @return the enum headers ordered by class name
+     */
+    public List<ClassHeader> getEnums() {
+        return enums;
+    }
+
+    /**
+     * Returns all scanned classes that can be loaded, loading them on first call.
+     *
+     * @return an immutable list ordered by class name
+     */
+    public List<Class<?>> getClasses() {
+        List<Class<?>> classes = this.classes;
+
+        if (classes == null) {
+            this.classes = classes = load(headers, Matcher.constant(true), Matcher.constant(true));
+        }
+
+        return classes;
+    }
+
+    /**
+     * Loads the given candidates accepted by the header matcher and returns those accepted by the class matcher.
+     *
+     * @param candidates    the candidate headers, typically the result of another query of this index
+     * @param headerMatcher pre-filter evaluated before loading
+     * @param classMatcher  filter evaluated on the loaded classes
+     * @return the matching classes in the order of the candidates
+     */
+    public List<Class<?>> load(Collection<ClassHeader> candidates, Matcher<ClassHeader> headerMatcher,
+                               Matcher<Class<?>> classMatcher) {
+        List<Class<?>> result = new ArrayList<>();
+
+        for (ClassHeader header : candidates) {
+            if (headerMatcher.matches(header)) {
+                Class<?> type = load(header);
+                if (type != null && classMatcher.matches(type)) {
+                    result.add(type);
+                }
+            }
+        }
+
+        return List.copyOf(result);
+    }
+
+    /**
+     * Returns the number of indexed classes.
+     *
+     * @return the number of scanned class headers
+     */
+    public int size() {
+        return headers.size();
+    }
+
+    private Class<?> load(ClassHeader header) {
+        Optional<Class<?>> type = loaded.get(header.getClassName());
+
+        // loading runs static initializers that may query this index again, so stay outside computeIfAbsent
+        if (type == null) {
+            type = Optional.ofNullable(scanner.load(header));
+            loaded.putIfAbsent(header.getClassName(), type);
+        }
+
+        return type.orElse(null);
+    }
+
+    /**
+     * Collects the names of all supertypes of a class except {@code java.lang.Object}. Scanned classes are
+     * resolved from their headers, all other classes are loaded without initialization.
+     */
+    private static Set<String> getSupertypes(String name, ClassLoader classLoader, Map<String, ClassHeader> scanned,
+                                             Map<String, Set<String>> resolved) {
+        Set<String> supertypes = resolved.get(name);
+
+        if (supertypes != null) {
+            return supertypes;
+        }
+
+        supertypes = new HashSet<>();
+        ClassHeader header = scanned.get(name);
+
+        if (header != null) {
+            List<String> direct = new ArrayList<>(header.getInterfaceNames());
+
+            if (header.getSuperClassName() != null) {
+                direct.add(header.getSuperClassName());
+            }
+
+            for (String supertype : direct) {
+                if (!OBJECT.equals(supertype)) {
+                    supertypes.add(supertype);
+                    supertypes.addAll(getSupertypes(supertype, classLoader, scanned, resolved));
+                }
+            }
+        } else {
+            collectSupertypes(ClassHeaderMatchers.loadSupertype(name, classLoader), supertypes);
+        }
+
+        resolved.put(name, supertypes);
+
+        return supertypes;
+    }
+
+    private static void collectSupertypes(Class<?> type, Set<String> supertypes) {
+        if (type == null) {
+            return;
+        }
+
+        Class<?> superClass = type.getSuperclass();
+
+        if (superClass != null && superClass != Object.class && supertypes.add(superClass.getName())) {
+            collectSupertypes(superClass, supertypes);
+        }
+
+        for (Class<?> implemented : type.getInterfaces()) {
+            if (supertypes.add(implemented.getName())) {
+                collectSupertypes(implemented, supertypes);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClassScanIndex[classes=%d, annotations=%d, supertypes=%d]"
+                .formatted(headers.size(), annotated.size(), subtypes.size());
+    }
+
+}
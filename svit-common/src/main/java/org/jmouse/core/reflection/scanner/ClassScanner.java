@@ -1,7 +1,10 @@
 package org.jmouse.core.reflection.scanner;
 
 import org.jmouse.core.matcher.Matcher;
+import org.jmouse.core.reflection.ReflectionException;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -10,6 +13,19 @@ import java.util.Set;
  * This interface provides methods to discover classes dynamically using matchers, class loaders, and base classes.
  * It supports both custom and default class loaders, as well as flexible matching conditions.
  * </p>
+ * <p>
+ * Besides matchers on loaded classes, a scan can be narrowed with a {@link ClassHeader} matcher evaluated on
+ * the class file bytes. Classes rejected by it are never loaded, which keeps unrelated classes out of the
+ * JVM and their static initializers from running.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Set<Class<?>> components = scanner.scan(
+ *         ClassHeaderMatchers.isAnnotatedWith(Component.class),
+ *         ClassMatchers.isAnnotatedWith(Component.class),
+ *         classLoader, Application.class);
+ * }</pre>
  */
 public interface ClassScanner {
 
@@ -28,6 +44,55 @@ public interface ClassScanner {
      */
     Set<Class<?>> scan(Matcher<Class<?>> matcher, ClassLoader loader, Class<?>... baseClasses);
 
+    /**
+     * Reads the headers of all class files in the packages of the given base classes without loading them.
+     *
+     * @param loader      the {@link ClassLoader} the classes belong to
+     * @param baseClasses the base classes whose packages are scanned
+     * @return the headers of all readable class files
+     */
+    Collection<ClassHeader> scanHeaders(ClassLoader loader, Class<?>... baseClasses);
+
+    /**
+     * Scans for classes whose header matches {@code candidates}, loads only those and filters them with
+     * {@code matcher}.
+     *
+     * @param candidates  the pre-filter applied to class file headers before loading
+     * @param matcher     the matcher applied to the loaded classes
+     * @param loader      the {@link ClassLoader} to use for scanning and loading
+     * @param baseClasses the base classes or interfaces to use as starting points for the scan
+     * @return a set of classes that match both matchers
+     */
+    default Set<Class<?>> scan(Matcher<ClassHeader> candidates, Matcher<Class<?>> matcher,
+                               ClassLoader loader, Class<?>... baseClasses) {
+        Set<Class<?>> classes = new HashSet<>();
+
+        for (ClassHeader header : scanHeaders(loader, baseClasses)) {
+            if (candidates.matches(header)) {
+                Class<?> type = load(header);
+                if (type != null && matcher.matches(type)) {
+                    classes.add(type);
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    /**
+     * Loads the class of a scanned header.
+     *
+     * @param header the class header
+     * @return the class, or {@code null} if it cannot be loaded
+     */
+    default Class<?> load(ClassHeader header) {
+        try {
+            return header.load();
+        } catch (ReflectionException exception) {
+            return null;
+        }
+    }
+
     /**
      * Scans for classes matching the given matcher, using the default class loader and base classes.
      *
@@ -1,5 +1,6 @@
 package org.jmouse.core.reflection.scanner;
 
+import org.jmouse.core.io.AbstractResourceLoader;
 import org.jmouse.core.io.CompositeResourceLoader;
 import org.jmouse.core.io.PatternMatcherResourceLoader;
 import org.jmouse.core.io.Resource;
@@ -9,12 +10,16 @@ import org.jmouse.core.matcher.Matcher;
 import org.jmouse.core.reflection.ReflectionException;
 import org.jmouse.core.reflection.Reflections;
 import org.jmouse.util.Files;
-import org.jmouse.util.Strings;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@link ClassScanner}.
@@ -22,12 +27,23 @@ import java.util.stream.Collectors;
  * This class provides functionality to scan the classpath for classes that match specific criteria,
  * leveraging Ant-style patterns for resource matching and supporting both JRT and regular classpath resources.
  * </p>
+ * <p>
+ * Class files are first parsed into {@link ClassHeader}s, so the class name comes from the bytecode itself and
+ * header matchers can reject classes before they are loaded.
+ * </p>
+ * <p>
+ * By default the base classes are scanned concurrently and class files are parsed in parallel, while the
+ * resource loader fans out per jar and per directory subtree. Results are merged in the order of the base
+ * classes and resources, so the first header found for a class name always wins. Call
+ * {@link #setParallel(boolean)} with {@code false} to scan on the calling thread only.
+ * </p>
  */
 public class DefaultClassScanner implements ClassScanner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultClassScanner.class);
 
-    private final PatternMatcherResourceLoader loader;
+    private final    PatternMatcherResourceLoader loader;
+    private volatile boolean                      parallel = true;
 
     /**
      * Constructs a {@link DefaultClassScanner} with the specified {@link PatternMatcherResourceLoader}.
@@ -47,6 +63,11 @@ public class DefaultClassScanner implements ClassScanner {
 
     /**
      * Scans the classpath for classes matching the given matcher and base classes.
+     * <p>
+     * Every class file under the packages of the base classes is loaded before the matcher is applied.
+     * Use {@link #scan(Matcher, Matcher, ClassLoader, Class[])} with a {@link ClassHeader} matcher to
+     * load only candidate classes.
+     * </p>
      *
      * @param matcher     the matcher to filter classes
      * @param classLoader the class loader to use for loading classes
@@ -55,34 +76,97 @@ public class DefaultClassScanner implements ClassScanner {
      */
     @Override
     public Set<Class<?>> scan(Matcher<Class<?>> matcher, ClassLoader classLoader, Class<?>... baseClasses) {
-        Set<Class<?>> classes  = new HashSet<>();
-        String        location = "classpath:%s";
-        String        pattern  = "%s/**/*.class";
-
-        for (Class<?> baseClass : baseClasses) {
-            String  path    = Files.packageToPath(baseClass, Files.SLASH);
-            String  antPath = pattern.formatted(location.formatted(path));
+        return scan(Matcher.constant(true), matcher, classLoader, baseClasses);
+    }
 
-            // Adjust path for JRT resources
-            if (Reflections.isJrtResource(baseClass)) {
-                antPath = "%s:%s/%s".formatted(Resource.JRT_PROTOCOL, baseClass.getModule().getName(), path);
+    /**
+     * Reads the class file headers of all {@code .class} resources under the packages of the base classes.
+     * Resources that cannot be read or parsed are skipped.
+     *
+     * @param classLoader the class loader the classes belong to
+     * @param baseClasses the base classes whose packages are scanned
+     * @return the headers, one per class name
+     */
+    @Override
+    public Collection<ClassHeader> scanHeaders(ClassLoader classLoader, Class<?>... baseClasses) {
+        Map<String, ClassHeader> headers = new LinkedHashMap<>();
+
+        // toList() keeps the order of the base classes and resources however the work is split
+        List<List<ClassHeader>> scanned = stream(List.of(baseClasses))
+                .map(baseClass -> stream(findClassFiles(baseClass))
+                        .map(resource -> readHeader(resource, classLoader))
+                        .filter(Objects::nonNull)
+                        .toList())
+                .toList();
+
+        for (List<ClassHeader> found : scanned) {
+            for (ClassHeader header : found) {
+                headers.putIfAbsent(header.getClassName(), header);
             }
+        }
 
-            Collection<Resource> resources = loader.findResources(antPath);
+        return headers.values();
+    }
 
-            for (Resource resource : resources) {
-                String className = Strings.extractClassName(baseClass, resource.getURL());
-                try {
-                    classes.add(Reflections.getClassFor(className));
-                } catch (ReflectionException exception) {
-                    LOGGER.trace("Unable to get class '{}'. Cause: {}", className, exception.getMessage());
-                }
-            }
+    private Collection<Resource> findClassFiles(Class<?> baseClass) {
+        String path    = Files.packageToPath(baseClass, Files.SLASH);
+        String antPath = "classpath:%s/**/*.class".formatted(path);
+
+        // Adjust path for JRT resources
+        if (Reflections.isJrtResource(baseClass)) {
+            antPath = "%s:%s/%s".formatted(Resource.JRT_PROTOCOL, baseClass.getModule().getName(), path);
         }
 
-        return classes.stream().filter(matcher::matches).collect(Collectors.toSet());
+        return loader.findResources(antPath);
     }
 
+    private ClassHeader readHeader(Resource resource, ClassLoader classLoader) {
+        try (InputStream stream = resource.getInputStream()) {
+            return ClassHeader.read(stream, classLoader);
+        } catch (IOException | ReflectionException exception) {
+            LOGGER.trace("Unable to read class file '{}'. Cause: {}",
+                         resource.getResourceName(), exception.getMessage());
+            return null;
+        }
+    }
 
+    private <T> Stream<T> stream(Collection<T> collection) {
+        return parallel && collection.size() > 1 ? collection.parallelStream() : collection.stream();
+    }
+
+    /**
+     * Enables or disables parallel scanning. The setting is passed on to a {@link CompositeResourceLoader}
+     * or {@link AbstractResourceLoader} used by this scanner.
+     *
+     * @param parallel {@code false} to scan on the calling thread only
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+
+        if (loader instanceof CompositeResourceLoader composite) {
+            composite.setParallel(parallel);
+        } else if (loader instanceof AbstractResourceLoader abstractLoader) {
+            abstractLoader.setParallel(parallel);
+        }
+    }
+
+    /**
+     * Checks whether parallel scanning is enabled.
+     *
+     * @return {@code true} if parallel scanning is enabled
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public Class<?> load(ClassHeader header) {
+        try {
+            return header.load();
+        } catch (ReflectionException exception) {
+            LOGGER.trace("Unable to get class '{}'. Cause: {}", header.getClassName(), exception.getMessage());
+            return null;
+        }
+    }
 
 }
@@ -0,0 +1,284 @@
+package org.jmouse.util;
+
+import java.util.Objects;
+
+/**
+ * Utility class Numbers for parsing primitive numbers directly from {@link CharSequence}s.
+ *
+ * <p>The parsers read a range of any character sequence, such as one segment of a longer path, without
+ * creating intermediate strings or boxed values. Invalid input is reported by returning the given default
+ * value instead of throwing an exception; use {@link #isInt(CharSequence)} and its siblings when the default
+ * is a legal value as well.</p>
+ *
+ * <p>Integers consist of an optional sign followed by decimal ASCII digits. Doubles may additionally have a
+ * fraction and an exponent, or be one of {@code NaN} and {@code Infinity} with an optional sign. Whitespace,
+ * type suffixes and hexadecimal notation are not accepted.</p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>{@code
+ * int    port   = Numbers.parseInt("8080", -1);                 // 8080
+ * long   index  = Numbers.parseLong("users.42.name", 6, 8, -1); // 42
+ * double ratio  = Numbers.parseDouble("7.5e-1", Double.NaN);    // 0.75
+ * int    broken = Numbers.parseInt("80a0", -1);                 // -1
+ * }</pre>
+ */
+final public class Numbers {
+
+    // every integer up to 10^15 and every power of ten up to 10^22 is exact, so one operation rounds correctly
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int MAX_EXPONENT = 100_000;
+
+    private Numbers() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Parses the whole sequence as a decimal {@code int}.
+     *
+     * @param sequence     the characters to parse
+     * @param defaultValue the value returned if the sequence is not a valid {@code int}
+     * @return the parsed value or {@code defaultValue}
+     */
+    public static int parseInt(CharSequence sequence, int defaultValue) {
+        return parseInt(sequence, 0, sequence.length(), defaultValue);
+    }
+
+    /**
+     * Parses the characters from {@code start} (inclusive) to {@code end} (exclusive) as a decimal {@code int}.
+     *
+     * @param sequence     the characters to parse
+     * @param start        the index of the first character
+     * @param end          the index after the last character
+     * @param defaultValue the value returned if the range is not a valid {@code int}
+     * @return the parsed value or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is outside the sequence
+     */
+    public static int parseInt(CharSequence sequence, int start, int end, int defaultValue) {
+        long value = parseLong(sequence, start, end, Long.MIN_VALUE);
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? defaultValue : (int) value;
+    }
+
+    /**
+     * Parses the whole sequence as a decimal {@code long}.
+     *
+     * @param sequence     the characters to parse
+     * @param defaultValue the value returned if the sequence is not a valid {@code long}
+     * @return the parsed value or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence sequence, long defaultValue) {
+        return parseLong(sequence, 0, sequence.length(), defaultValue);
+    }
+
+    /**
+     * Parses the characters from {@code start} (inclusive) to {@code end} (exclusive) as a decimal {@code long}.
+     *
+     * @param sequence     the characters to parse
+     * @param start        the index of the first character
+     * @param end          the index after the last character
+     * @param defaultValue the value returned if the range is not a valid {@code long}
+     * @return the parsed value or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is outside the sequence
+     */
+    public static long parseLong(CharSequence sequence, int start, int end, long defaultValue) {
+        Objects.checkFromToIndex(start, end, sequence.length());
+
+        if (start == end) {
+            return defaultValue;
+        }
+
+        char    first    = sequence.charAt(start);
+        boolean negative = first == '-';
+        int     index    = negative || first == '+' ? start + 1 : start;
+
+        if (index == end) {
+            return defaultValue;
+        }
+
+        // accumulate negatively, like Long.parseLong, so that Long.MIN_VALUE is reachable
+        long limit  = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+
+        for (; index < end; index++) {
+            int digit = sequence.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9 || result < limit / 10) {
+                return defaultValue;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the whole sequence as a {@code double}.
+     *
+     * @param sequence     the characters to parse
+     * @param defaultValue the value returned if the sequence is not a valid {@code double}
+     * @return the parsed value or {@code defaultValue}
+     */
+    public static double parseDouble(CharSequence sequence, double defaultValue) {
+        return parseDouble(sequence, 0, sequence.length(), defaultValue);
+    }
+
+    /**
+     * Parses the characters from {@code start} (inclusive) to {@code end} (exclusive) as a {@code double}.
+     * <p>
+     * Values with at most 15 significant digits and a small decimal exponent, which covers the numbers usually
+     * found in configuration, are computed without allocation. Other valid values are delegated to
+     * {@link Double#parseDouble(String)}. Either way the result is correctly rounded.
+     * </p>
+     *
+     * @param sequence     the characters to parse
+     * @param start        the index of the first character
+     * @param end          the index after the last character
+     * @param defaultValue the value returned if the range is not a valid {@code double}
+     * @return the parsed value or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is outside the sequence
+     */
+    public static double parseDouble(CharSequence sequence, int start, int end, double defaultValue) {
+        Objects.checkFromToIndex(start, end, sequence.length());
+
+        int     index    = start;
+        boolean negative = false;
+
+        if (index < end && (sequence.charAt(index) == '-' || sequence.charAt(index) == '+')) {
+            negative = sequence.charAt(index++) == '-';
+        }
+
+        if (matches(sequence, index, end, "Infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        } else if (matches(sequence, index, end, "NaN")) {
+            return Double.NaN;
+        }
+
+        long    mantissa    = 0;
+        int     digits      = 0;
+        int     significant = 0;
+        int     scale       = 0;
+        boolean fraction    = false;
+
+        for (; index < end; index++) {
+            char character = sequence.charAt(index);
+
+            if (character >= '0' && character <= '9') {
+                digits++;
+                if (mantissa != 0 || character != '0') {
+                    significant++;
+                }
+                if (significant <= MAX_EXACT_DIGITS) {
+                    mantissa = mantissa * 10 + (character - '0');
+                    scale -= fraction ? 1 : 0;
+                }
+            } else if (character == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (digits == 0) {
+            return defaultValue;
+        }
+
+        int exponent = 0;
+
+        if (index < end && (sequence.charAt(index) == 'e' || sequence.charAt(index) == 'E')) {
+            boolean negativeExponent = false;
+
+            if (++index < end && (sequence.charAt(index) == '-' || sequence.charAt(index) == '+')) {
+                negativeExponent = sequence.charAt(index++) == '-';
+            }
+
+            if (index == end) {
+                return defaultValue;
+            }
+
+            for (; index < end; index++) {
+                int digit = sequence.charAt(index) - '0';
+
+                if (digit < 0 || digit > 9) {
+                    return defaultValue;
+                }
+
+                exponent = Math.min(exponent * 10 + digit, MAX_EXPONENT);
+            }
+
+            exponent = negativeExponent ? -exponent : exponent;
+        }
+
+        if (index != end) {
+            return defaultValue;
+        }
+
+        exponent += scale;
+
+        if (significant > MAX_EXACT_DIGITS || exponent < -22 || exponent > 22) {
+            // the syntax was validated above, so the slow path cannot fail
+            return Double.parseDouble(sequence.subSequence(start, end).toString());
+        }
+
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Checks whether the whole sequence is a valid decimal {@code int}.
+     *
+     * @param sequence the characters to check
+     * @return {@code true} if {@link #parseInt(CharSequence, int)} accepts the sequence
+     */
+    public static boolean isInt(CharSequence sequence) {
+        // a valid value is returned regardless of the default, so it cannot match both defaults
+        return parseInt(sequence, 0) != 0 || parseInt(sequence, 1) != 1;
+    }
+
+    /**
+     * Checks whether the whole sequence is a valid decimal {@code long}.
+     *
+     * @param sequence the characters to check
+     * @return {@code true} if {@link #parseLong(CharSequence, long)} accepts the sequence
+     */
+    public static boolean isLong(CharSequence sequence) {
+        return parseLong(sequence, 0) != 0 || parseLong(sequence, 1) != 1;
+    }
+
+    /**
+     * Checks whether the whole sequence is a valid {@code double}.
+     *
+     * @param sequence the characters to check
+     * @return {@code true} if {@link #parseDouble(CharSequence, double)} accepts the sequence
+     */
+    public static boolean isDouble(CharSequence sequence) {
+        return parseDouble(sequence, 0) != 0 || parseDouble(sequence, 1) != 1;
+    }
+
+    private static boolean matches(CharSequence sequence, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < expected.length(); index++) {
+            if (sequence.charAt(start + index) != expected.charAt(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
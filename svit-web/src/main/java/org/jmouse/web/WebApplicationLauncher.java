@@ -51,6 +51,12 @@ public class WebApplicationLauncher {
         WebServer        webServer = factory.getWebServer(new WebBeanContextServletInitializer(webBeanContext));
         webServer.start();
 
+        // stopping the server destroys the web application context, the root context goes last
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            webServer.stop();
+            rootWebBeanContext.destroy();
+        }, "web-shutdown"));
+
         return rootWebBeanContext;
     }
 
@@ -1,6 +1,11 @@
 package org.jmouse.web.context;
 
+import org.jmouse.web.request.RequestBeanContainer;
+import org.jmouse.web.request.SessionBeanContainer;
 import svit.beans.BeanContext;
+import svit.beans.BeanScope;
+import svit.beans.container.PooledBeanContainer;
+import svit.beans.container.PooledScope;
 import svit.beans.container.ThreadLocalBeanContainer;
 import svit.beans.container.ThreadLocalScope;
 
@@ -11,7 +16,10 @@ public class WebApplicationBeanContext extends AbstractWebApplicationBeanContext
 
         setBaseClasses(baseClasses);
 
+        registerBeanContainer(BeanScope.REQUEST, new RequestBeanContainer());
+        registerBeanContainer(BeanScope.SESSION, new SessionBeanContainer());
         registerBeanContainer(ThreadLocalScope.THREAD_LOCAL_SCOPE, new ThreadLocalBeanContainer());
+        registerBeanContainer(PooledScope.POOLED_SCOPE, new PooledBeanContainer());
     }
 
     public WebApplicationBeanContext(Class<?>... baseClasses) {
@@ -0,0 +1,166 @@
+package org.jmouse.web.request;
+
+import org.jmouse.web.context.WebContextException;
+import svit.beans.BeanContainer;
+import svit.beans.BeanContextException;
+import svit.beans.ObjectFactory;
+import svit.beans.Scope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jmouse.core.reflection.Reflections.getShortName;
+
+/**
+ * Base {@link BeanContainer} storing bean instances as attributes of the {@link RequestAttributes}
+ * bound to the current thread by {@link RequestAttributesHolder}.
+ * <p>
+ * An instance is created once per request or session and kept under a prefixed attribute name,
+ * so a lookup is a single attribute read. Attribute names are computed once per bean name.
+ * </p>
+ *
+ * @see RequestBeanContainer
+ * @see SessionBeanContainer
+ */
+public abstract class RequestAttributesBeanContainer implements BeanContainer {
+
+    /**
+     * Prefix of the attribute names under which bean instances are stored.
+     */
+    public static final String ATTRIBUTE_PREFIX = BeanContainer.class.getName() + ".";
+
+    private final Map<String, String> attributeNames = new ConcurrentHashMap<>();
+    private final Scope               scope;
+
+    protected RequestAttributesBeanContainer(Scope scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * Retrieves a bean instance by its name from the current request or session.
+     *
+     * @param name the name of the bean to retrieve.
+     * @param <T>  the type of the bean.
+     * @return the bean instance if present, or {@code null} otherwise.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(String name) {
+        return (T) getAttributes().getAttribute(getAttributeName(name));
+    }
+
+    /**
+     * Retrieves a bean by name, or creates it once for the current request or session.
+     *
+     * @param name          the name of the bean.
+     * @param objectFactory the factory used to create the bean if it doesn't exist.
+     * @param <T>           the type of the bean.
+     * @return the bean instance.
+     * @throws BeanContextException if the factory produces a {@code null} object
+     * @throws WebContextException  if no request is bound to the current thread
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(String name, ObjectFactory<T> objectFactory) {
+        RequestAttributes attributes    = getAttributes();
+        String            attributeName = getAttributeName(name);
+        T                 bean          = (T) attributes.getAttribute(attributeName);
+
+        if (bean != null) {
+            return bean;
+        }
+
+        synchronized (getMutex(attributes)) {
+            bean = (T) attributes.getAttribute(attributeName);
+
+            if (bean == null) {
+                bean = objectFactory.createObject();
+
+                if (bean == null) {
+                    throw new BeanContextException("ObjectFactory must produce a non-null object");
+                }
+
+                LOGGER.debug("Register bean '{}' with '{}' container", name, getShortName(getClass()));
+                store(attributes, attributeName, bean);
+            }
+        }
+
+        return bean;
+    }
+
+    /**
+     * Registers a bean instance with the given name in the current request or session.
+     *
+     * @param name the name of the bean.
+     * @param bean the bean instance to register.
+     */
+    @Override
+    public void registerBean(String name, Object bean) {
+        store(getAttributes(), getAttributeName(name), bean);
+    }
+
+    /**
+     * Checks if a bean with the specified name exists in the current request or session.
+     *
+     * @param name the name of the bean.
+     * @return {@code true} if a bean with the given name exists, {@code false} otherwise.
+     */
+    @Override
+    public boolean containsBean(String name) {
+        return getAttributes().getAttribute(getAttributeName(name)) != null;
+    }
+
+    /**
+     * Determines if this container supports the given {@link Scope}.
+     *
+     * @param scope the {@link Scope} to check.
+     * @return {@code true} if the scope matches the scope of this container, {@code false} otherwise.
+     */
+    @Override
+    public boolean supports(Scope scope) {
+        return this.scope.equals(scope);
+    }
+
+    /**
+     * Stores the bean instance under the given attribute name.
+     *
+     * @param attributes    the attributes of the current request or session
+     * @param attributeName the prefixed attribute name
+     * @param bean          the bean instance
+     */
+    protected void store(RequestAttributes attributes, String attributeName, Object bean) {
+        attributes.setAttribute(attributeName, bean);
+    }
+
+    /**
+     * Returns the object guarding the creation of beans in the given attributes.
+     *
+     * @param attributes the attributes of the current request or session
+     * @return the mutex
+     */
+    protected abstract Object getMutex(RequestAttributes attributes);
+
+    /**
+     * Resolves the attributes of the current request or session.
+     *
+     * @param current the request attributes bound to the current thread
+     * @return the attributes holding the beans of this container
+     */
+    protected abstract RequestAttributes getAttributes(RequestAttributes current);
+
+    private RequestAttributes getAttributes() {
+        RequestAttributes current = RequestAttributesHolder.getRequestAttributes();
+
+        if (current == null) {
+            throw new WebContextException("No request bound to thread '%s', scope '%s' is not active"
+                    .formatted(Thread.currentThread().getName(), scope.name()));
+        }
+
+        return getAttributes(current);
+    }
+
+    private String getAttributeName(String name) {
+        return attributeNames.computeIfAbsent(name, ATTRIBUTE_PREFIX::concat);
+    }
+
+}
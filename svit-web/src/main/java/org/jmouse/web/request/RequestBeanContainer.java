@@ -0,0 +1,103 @@
+package org.jmouse.web.request;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import svit.beans.BeanScope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link svit.beans.BeanContainer} for {@link BeanScope#REQUEST} beans, created once per HTTP request
+ * and stored as request attributes.
+ * <p>
+ * The container remembers which beans it stored in a request so that {@link #destroyBeans(RequestAttributes)}
+ * can remove them, closing those implementing {@link AutoCloseable}, when the request ends.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * context.registerBeanContainer(BeanScope.REQUEST, new RequestBeanContainer());
+ *
+ * // at the end of the request, see RequestContextListener
+ * RequestBeanContainer.destroyBeans(RequestAttributesHolder.getRequestAttributes());
+ * }</pre>
+ */
+public class RequestBeanContainer extends RequestAttributesBeanContainer {
+
+    /**
+     * Attribute holding the names of the attributes used by request-scoped beans.
+     */
+    public static final String BEAN_NAMES_ATTRIBUTE = RequestBeanContainer.class.getName() + ".BEAN_NAMES";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestBeanContainer.class);
+
+    public RequestBeanContainer() {
+        super(BeanScope.REQUEST);
+    }
+
+    /**
+     * Removes all request-scoped beans from the given request attributes and closes those
+     * implementing {@link AutoCloseable}.
+     *
+     * @param attributes the attributes of the finished request, may be {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static void destroyBeans(RequestAttributes attributes) {
+        if (attributes == null || !(attributes.getAttribute(BEAN_NAMES_ATTRIBUTE) instanceof List<?> names)) {
+            return;
+        }
+
+        for (String attributeName : (List<String>) names) {
+            Object bean = attributes.getAttribute(attributeName);
+
+            attributes.removeAttribute(attributeName);
+
+            if (bean instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception exception) {
+                    LOGGER.warn("Failed to close request bean '{}'. Cause: {}", attributeName, exception.getMessage());
+                }
+            }
+        }
+
+        attributes.removeAttribute(BEAN_NAMES_ATTRIBUTE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void store(RequestAttributes attributes, String attributeName, Object bean) {
+        List<String> names = (List<String>) attributes.getAttribute(BEAN_NAMES_ATTRIBUTE);
+
+        if (names == null) {
+            names = new ArrayList<>();
+            attributes.setAttribute(BEAN_NAMES_ATTRIBUTE, names);
+        }
+
+        if (attributes.getAttribute(attributeName) == null) {
+            names.add(attributeName);
+        }
+
+        super.store(attributes, attributeName, bean);
+    }
+
+    /**
+     * Returns the request attributes themselves; a request is usually served by one thread at a time.
+     */
+    @Override
+    protected Object getMutex(RequestAttributes attributes) {
+        return attributes;
+    }
+
+    @Override
+    protected RequestAttributes getAttributes(RequestAttributes current) {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "Request beans";
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.jmouse.web.request;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 
 public class ServletHttpSession extends ServletHttpRequest {
 
@@ -8,4 +9,24 @@ public class ServletHttpSession extends ServletHttpRequest {
         super(request);
     }
 
+    @Override
+    public Object getAttribute(String name) {
+        HttpSession session = getRequest().getSession(false);
+        return session == null ? null : session.getAttribute(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        getRequest().getSession(true).setAttribute(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        HttpSession session = getRequest().getSession(false);
+
+        if (session != null) {
+            session.removeAttribute(name);
+        }
+    }
+
 }
@@ -0,0 +1,87 @@
+package org.jmouse.web.request;
+
+import jakarta.servlet.http.HttpSession;
+import org.jmouse.web.context.WebContextException;
+import svit.beans.BeanScope;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * A {@link svit.beans.BeanContainer} for {@link BeanScope#SESSION} beans, created once per HTTP session
+ * and stored as session attributes.
+ * <p>
+ * Concurrent requests of the same session create a bean only once, creation is synchronized on a mutex
+ * stored as the {@value #MUTEX_ATTRIBUTE} session attribute. The servlet specification does not guarantee
+ * that all requests of a session see the same {@link HttpSession} instance, so the session itself is not
+ * a reliable lock.
+ * Session beans are released together with the session by the servlet container.
+ * </p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * context.registerBeanContainer(BeanScope.SESSION, new SessionBeanContainer());
+ * }</pre>
+ */
+public class SessionBeanContainer extends RequestAttributesBeanContainer {
+
+    /**
+     * Name of the session attribute holding the mutex that guards bean creation.
+     */
+    public static final String MUTEX_ATTRIBUTE = SessionBeanContainer.class.getName() + ".MUTEX";
+
+    // guards only the one-time creation of a session mutex
+    private static final Object MUTEX_LOCK = new Object();
+
+    public SessionBeanContainer() {
+        super(BeanScope.SESSION);
+    }
+
+    @Override
+    protected Object getMutex(RequestAttributes attributes) {
+        HttpSession session = ((HttpRequest) attributes).getRequest().getSession(true);
+        Object      mutex   = session.getAttribute(MUTEX_ATTRIBUTE);
+
+        if (mutex == null) {
+            synchronized (MUTEX_LOCK) {
+                mutex = session.getAttribute(MUTEX_ATTRIBUTE);
+                if (mutex == null) {
+                    mutex = new Mutex();
+                    session.setAttribute(MUTEX_ATTRIBUTE, mutex);
+                }
+            }
+        }
+
+        return mutex;
+    }
+
+    @Override
+    protected RequestAttributes getAttributes(RequestAttributes current) {
+        if (current instanceof ServletHttpSession) {
+            return current;
+        }
+
+        if (current instanceof HttpRequest request) {
+            return RequestAttributes.of(BeanScope.SESSION, request.getRequest());
+        }
+
+        throw new WebContextException("Session scope requires HTTP request attributes but found: %s"
+                .formatted(current.getClass().getName()));
+    }
+
+    @Override
+    public String toString() {
+        return "Session beans";
+    }
+
+    /**
+     * The session mutex, serializable so that it does not prevent session persistence.
+     */
+    private static final class Mutex implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
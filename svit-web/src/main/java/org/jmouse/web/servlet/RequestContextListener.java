@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import svit.beans.BeanScope;
 import org.jmouse.web.request.RequestAttributes;
 import org.jmouse.web.request.RequestAttributesHolder;
+import org.jmouse.web.request.RequestBeanContainer;
 
 import static org.jmouse.core.reflection.Reflections.getShortName;
 
@@ -47,7 +48,8 @@ public class RequestContextListener implements ServletRequestListener {
 
     /**
      * Cleans up the request attributes when the HTTP request is destroyed.
-     * Removes the current thread's {@link RequestAttributes} using
+     * Destroys the request-scoped beans via {@link RequestBeanContainer#destroyBeans(RequestAttributes)}
+     * and removes the current thread's {@link RequestAttributes} using
      * {@link RequestAttributesHolder#clearRequestAttributes()}.
      *
      * @param event the {@link ServletRequestEvent} containing the request
@@ -55,6 +57,7 @@ public class RequestContextListener implements ServletRequestListener {
     @Override
     public void requestDestroyed(ServletRequestEvent event) {
         LOGGER.info("Remove request holder {}", RequestAttributesHolder.class.getName());
+        RequestBeanContainer.destroyBeans(RequestAttributesHolder.getRequestAttributes());
         RequestAttributesHolder.clearRequestAttributes();
     }
 }
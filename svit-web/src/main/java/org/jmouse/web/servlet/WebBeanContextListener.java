@@ -40,7 +40,8 @@ public class WebBeanContextListener implements ServletContextListener {
     }
 
     /**
-     * Cleans up the {@link WebBeanContext} by removing it from the servlet context attributes.
+     * Cleans up the {@link WebBeanContext} by removing it from the servlet context attributes
+     * and destroying its singleton beans.
      *
      * @param event the {@link ServletContextEvent} containing the servlet context.
      */
@@ -49,6 +50,8 @@ public class WebBeanContextListener implements ServletContextListener {
         LOGGER.info("detaching '{}' bean context", WebBeanContext.ROOT_WEB_BEAN_CONTEXT_ATTRIBUTE);
         ServletContext servletContext = event.getServletContext();
         servletContext.removeAttribute(WebBeanContext.ROOT_WEB_BEAN_CONTEXT_ATTRIBUTE);
+
+        webBeanContext.destroy();
     }
 
     /**